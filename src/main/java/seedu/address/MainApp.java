@@ -2,6 +2,8 @@ package seedu.address;
 
 import java.io.IOException;
 import java.nio.file.Path;
+import java.util.EnumMap;
+import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
 
@@ -16,15 +18,21 @@ import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.Logic;
 import seedu.address.logic.LogicManager;
 import seedu.address.model.AddressBook;
+import seedu.address.model.DataFileFormat;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookFileConverter;
 import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournalingAddressBookStorage;
 import seedu.address.storage.JsonAddressBookStorage;
 import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.ShardedAddressBookStorage;
+import seedu.address.storage.SqlAddressBookStorage;
 import seedu.address.storage.Storage;
 import seedu.address.storage.StorageManager;
 import seedu.address.storage.UserPrefsStorage;
@@ -57,7 +65,7 @@ public class MainApp extends Application {
 
         UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
         UserPrefs userPrefs = initPrefs(userPrefsStorage);
-        AddressBookStorage addressBookStorage = new JsonAddressBookStorage(userPrefs.getAddressBookFilePath());
+        AddressBookStorage addressBookStorage = initAddressBookStorage(userPrefs);
         storage = new StorageManager(addressBookStorage, userPrefsStorage);
 
         model = initModelManager(storage, userPrefs);
@@ -67,6 +75,60 @@ public class MainApp extends Application {
         ui = new UiManager(logic);
     }
 
+    /**
+     * Returns the address book storage for the data file format chosen in {@code userPrefs}.
+     * If the data file in another format was changed more recently, e.g. because the format was just switched,
+     * its data is converted into the chosen format first.
+     */
+    private AddressBookStorage initAddressBookStorage(ReadOnlyUserPrefs userPrefs) {
+        Path jsonFilePath = userPrefs.getAddressBookFilePath();
+        boolean isJournaled = userPrefs.getDataFileFormat() == DataFileFormat.JOURNALED_JSON;
+        if (!isJournaled) {
+            foldJournal(jsonFilePath, userPrefs.isCompactDataFile());
+        }
+
+        // Both JSON formats keep their data in the same file, so only the chosen one of them is a conversion source
+        Map<DataFileFormat, AddressBookStorage> storages = new EnumMap<>(DataFileFormat.class);
+        storages.put(DataFileFormat.JSON, isJournaled
+                ? new JournalingAddressBookStorage(jsonFilePath, userPrefs.isCompactDataFile())
+                : new JsonAddressBookStorage(jsonFilePath, userPrefs.isCompactDataFile()));
+        storages.put(DataFileFormat.COMPRESSED_JSON, new JournalingAddressBookStorage(
+                JsonAddressBookStorage.getCompressedFilePath(jsonFilePath), userPrefs.isCompactDataFile()));
+        storages.put(DataFileFormat.BINARY, new BinaryAddressBookStorage(
+                BinaryAddressBookStorage.getBinaryFilePath(jsonFilePath), userPrefs.isLazyLoading()));
+        storages.put(DataFileFormat.SQL,
+                new SqlAddressBookStorage(SqlAddressBookStorage.getDatabaseFilePath(jsonFilePath)));
+        storages.put(DataFileFormat.SHARDED, new ShardedAddressBookStorage(
+                ShardedAddressBookStorage.getManifestFilePath(jsonFilePath), userPrefs.isCompactDataFile()));
+        AddressBookStorage chosenStorage =
+                storages.remove(isJournaled ? DataFileFormat.JSON : userPrefs.getDataFileFormat());
+
+        try {
+            AddressBookFileConverter.convertFromNewest(storages.values(), chosenStorage).ifPresent(source ->
+                    logger.info("Converted data file " + source.getAddressBookFilePath() + " to "
+                            + chosenStorage.getAddressBookFilePath()));
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Data file could not be converted to " + chosenStorage.getAddressBookFilePath() + ": "
+                    + StringUtil.getDetails(e));
+        }
+        return chosenStorage;
+    }
+
+    /**
+     * Folds the journal left beside the JSON data file at {@code jsonFilePath} by an earlier run with the
+     * {@code JOURNALED_JSON} format, if any, into the data file, so that its latest changes are not lost.
+     */
+    private void foldJournal(Path jsonFilePath, boolean isCompact) {
+        try {
+            if (JournalingAddressBookStorage.foldJournal(jsonFilePath, isCompact)) {
+                logger.info("Folded the journal of data file " + jsonFilePath + " into it");
+            }
+        } catch (DataLoadingException | IOException e) {
+            logger.warning("Journal of data file " + jsonFilePath + " could not be folded into it: "
+                    + StringUtil.getDetails(e));
+        }
+    }
+
     /**
      * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
      * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
@@ -177,6 +239,12 @@ public class MainApp extends Application {
     @Override
     public void stop() {
         logger.info("============================ [ Stopping AddressBook ] =============================");
+        logic.flushPendingSaves();
+        try {
+            storage.compactAddressBook();
+        } catch (IOException e) {
+            logger.severe("Failed to compact data file " + StringUtil.getDetails(e));
+        }
         try {
             storage.saveUserPrefs(model.getUserPrefs());
         } catch (IOException e) {
@@ -2,6 +2,9 @@ package seedu.address.commons.util;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.function.Function;
+import java.util.function.Supplier;
+
 import javafx.scene.image.Image;
 import seedu.address.MainApp;
 
@@ -39,4 +42,19 @@ public class AppUtil {
             throw new IllegalArgumentException(errorMessage);
         }
     }
+
+    /**
+     * Returns the value that {@code constructor} builds from {@code argument}, leaving the validation to the
+     * constructor. Used for turning user input or stored data into model values.
+     *
+     * @throws E the exception from {@code onInvalid} if the constructor throws an {@code IllegalArgumentException}.
+     */
+    public static <T, E extends Exception> T construct(String argument, Function<String, T> constructor,
+            Supplier<E> onInvalid) throws E {
+        try {
+            return constructor.apply(argument);
+        } catch (IllegalArgumentException e) {
+            throw onInvalid.get();
+        }
+    }
 }
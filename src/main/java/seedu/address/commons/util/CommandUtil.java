@@ -1,10 +1,9 @@
 package seedu.address.commons.util;
 
-import java.util.List;
 import java.util.Objects;
-import java.util.function.Function;
 
 import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.Model;
 import seedu.address.model.person.Caregiver;
 import seedu.address.model.person.Senior;
 
@@ -22,74 +21,51 @@ public class CommandUtil {
         }
     }
 
-    /**
-     * Returns the first item whose extracted id equals the given id, or null if none.
-     * If {@code id} is null, this returns null without searching.
-     */
-    public static <T> T findFirstByIdOrNull(
-            List<T> list,
-            Integer id,
-            Function<T, Integer> idGetter
-    ) {
-        Objects.requireNonNull(list, "list");
-        Objects.requireNonNull(idGetter, "idGetter");
-
-        if (id == null) {
-            return null;
-        }
-
-        return list.stream()
-                .filter(item -> {
-                    Integer itemId = idGetter.apply(item);
-                    return itemId != null && itemId.equals(id);
-                })
-                .findFirst()
-                .orElse(null);
-    }
-
     /**
      * Returns the {@link Senior} whose {@code seniorId} matches the given id, or {@code null} if none is found.
      *
-     * @param seniors list to search; must not be {@code null}
+     * @param model model to look up; must not be {@code null}
      * @param seniorId id to match; may be {@code null}
      * @return the matching {@link Senior}, or {@code null} if not found or if {@code seniorId} is {@code null}
      */
     public static Senior findSeniorByIdOrNull(
-            List<Senior> seniors,
+            Model model,
             Integer seniorId
     ) {
-        return findFirstByIdOrNull(seniors, seniorId, Senior::getId);
+        Objects.requireNonNull(model, "model");
+        return seniorId == null ? null : model.getSeniorWithId(seniorId);
     }
 
     /**
      * Returns the {@link Caregiver} whose {@code caregiverId} matches the given id, or {@code null} if none is found.
      *
-     * @param caregiver list to search; must not be {@code null}
+     * @param model model to look up; must not be {@code null}
      * @param caregiverId id to match; may be {@code null}
      * @return the matching {@link Caregiver}, or {@code null} if not found or if {@code caregiverId} is {@code null}
      */
     public static Caregiver findCaregiverByIdOrNull(
-            List<Caregiver> caregiver,
+            Model model,
             Integer caregiverId
     ) {
-        return findFirstByIdOrNull(caregiver, caregiverId, Caregiver::getId);
+        Objects.requireNonNull(model, "model");
+        return caregiverId == null ? null : model.getCaregiverWithId(caregiverId);
     }
 
     /**
      * Returns the {@link Senior} whose {@code seniorId} matches the given id, or throws if none is found.
      *
-     * @param seniors list to search and must not be null
+     * @param model model to look up and must not be null
      * @param seniorId id to match and must not be null
      * @param errorIfInvalid error message for the thrown exception if no match is found; must not be {@code null}
      * @return the matching {@link Senior}
-     * @throws CommandException if {@code seniorId} is not found in {@code seniors}
+     * @throws CommandException if {@code seniorId} is not found in {@code model}
      */
     public static Senior findSeniorById(
-            List<Senior> seniors,
+            Model model,
             Integer seniorId,
             String errorIfInvalid
     ) throws CommandException {
-        Senior s = findSeniorByIdOrNull(seniors, seniorId);
+        Senior s = findSeniorByIdOrNull(model, seniorId);
         if (s == null) {
             throw new CommandException(errorIfInvalid);
         }
@@ -100,19 +76,19 @@ public class CommandUtil {
      * Validates an optional {@code seniorId}. If {@code seniorId} is {@code null}, returns {@code null}.
      * If non-null, returns the matching {@link Senior} or throws if no match is found.
      *
-     * @param seniors        list to search; must not be {@code null}
+     * @param model          model to look up; must not be {@code null}
      * @param seniorId       optional id to validate; may be {@code null}
      * @param errorIfInvalid error message for the thrown exception if {@code seniorId} is non-null but not found;
      *                       must not be {@code null}
      * @return the matching {@link Senior} when {@code seniorId} is non-null; otherwise {@code null}
-     * @throws CommandException if {@code seniorId} is non-null and not found in {@code seniors}
+     * @throws CommandException if {@code seniorId} is non-null and not found in {@code model}
      */
     public static Senior validateOptionalSeniorId(
-            List<Senior> seniors,
+            Model model,
             Integer seniorId,
             String errorIfInvalid
     ) throws CommandException {
-        Senior senior = findSeniorByIdOrNull(seniors, seniorId);
+        Senior senior = findSeniorByIdOrNull(model, seniorId);
         if (seniorId != null && senior == null) {
             throw new CommandException(errorIfInvalid);
         }
@@ -122,18 +98,18 @@ public class CommandUtil {
     /**
      * Returns the {@link Caregiver} whose {@code caregiverId} matches the given id, or throws if none is found.
      *
-     * @param caregivers list to search; must not be {@code null}
+     * @param model model to look up; must not be {@code null}
      * @param caregiverId id to match; must not be {@code null}
      * @param errorIfInvalid error message for the thrown exception if no match is found; must not be {@code null}
      * @return the matching {@link Caregiver}
-     * @throws CommandException if {@code caregiverId} is not found in {@code caregivers}
+     * @throws CommandException if {@code caregiverId} is not found in {@code model}
      */
     public static Caregiver findCaregiverById(
-            List<Caregiver> caregivers,
+            Model model,
             Integer caregiverId,
             String errorIfInvalid
     ) throws CommandException {
-        Caregiver c = findCaregiverByIdOrNull(caregivers, caregiverId);
+        Caregiver c = findCaregiverByIdOrNull(model, caregiverId);
         if (c == null) {
             throw new CommandException(errorIfInvalid);
         }
@@ -144,19 +120,19 @@ public class CommandUtil {
      * Validates an optional {@code caregiverId}. If {@code caregiverId} is {@code null}, returns {@code null}.
      * If non-null, returns the matching {@link Caregiver} or throws if no match is found.
      *
-     * @param caregivers     list to search; must not be {@code null}
+     * @param model          model to look up; must not be {@code null}
      * @param caregiverId    optional id to validate; may be {@code null}
      * @param errorIfInvalid error message for the thrown exception if {@code caregiverId} is non-null but not found;
      *                       must not be {@code null}
      * @return the matching {@link Caregiver} when {@code caregiverId} is non-null; otherwise {@code null}
-     * @throws CommandException if {@code caregiverId} is non-null and not found in {@code caregivers}
+     * @throws CommandException if {@code caregiverId} is non-null and not found in {@code model}
      */
     public static Caregiver validateOptionalCaregiverId(
-            List<Caregiver> caregivers,
+            Model model,
             Integer caregiverId,
             String errorIfInvalid
     ) throws CommandException {
-        Caregiver caregiver = findCaregiverByIdOrNull(caregivers, caregiverId);
+        Caregiver caregiver = findCaregiverByIdOrNull(model, caregiverId);
         if (caregiverId != null && caregiver == null) {
             throw new CommandException(errorIfInvalid);
         }
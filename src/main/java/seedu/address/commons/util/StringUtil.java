@@ -65,4 +65,51 @@ public class StringUtil {
             return false;
         }
     }
+
+    /**
+     * Returns true if {@code s} has no line terminators, i.e. no line feed, carriage return, next line (U+0085),
+     * line separator (U+2028) or paragraph separator (U+2029).
+     * Accepts exactly the strings that the regex {@code .*} matches, without running a regex.
+     */
+    public static boolean isSingleLine(String s) {
+        requireNonNull(s);
+        for (int i = 0; i < s.length(); i++) {
+            char c = s.charAt(i);
+            if (c == '\n' || c == '\r' || c == '\u0085' || c == '\u2028' || c == '\u2029') {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code s} is non-empty and consists only of the ASCII digits 0 to 9.
+     * Accepts exactly the strings that the regex {@code \d+} matches, without running a regex.
+     */
+    public static boolean isAsciiDigits(String s) {
+        requireNonNull(s);
+        if (s.isEmpty()) {
+            return false;
+        }
+        for (int i = 0; i < s.length(); i++) {
+            if (!isAsciiDigit(s.charAt(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if {@code c} is one of the ASCII digits 0 to 9, the characters matched by the regex {@code \d}.
+     */
+    public static boolean isAsciiDigit(char c) {
+        return c >= '0' && c <= '9';
+    }
+
+    /**
+     * Returns true if {@code c} is an ASCII letter or digit, the characters matched by the regex {@code \p{Alnum}}.
+     */
+    public static boolean isAsciiAlphanumeric(char c) {
+        return isAsciiDigit(c) || (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z');
+    }
 }
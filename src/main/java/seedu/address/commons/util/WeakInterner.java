@@ -0,0 +1,67 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.lang.ref.WeakReference;
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Function;
+
+/**
+ * A pool of canonical instances of an immutable value type, so that equal values share one object.
+ * Instances are held weakly: once no one else refers to a value it is dropped from the pool and can be collected.
+ * Values are looked up by the key they are created from, so a value already in the pool is returned without creating,
+ * or validating, a new one. Safe for use by several threads.
+ *
+ * @param <K> type of the keys, e.g. the string a value is created from
+ * @param <V> type of the pooled values
+ */
+public class WeakInterner<K, V> {
+
+    private final Map<K, WeakReference<V>> pool = new WeakHashMap<>();
+    private final Function<? super K, ? extends V> factory;
+
+    /**
+     * Creates an empty pool that creates its values from their keys with {@code factory}.
+     * Each value created must keep a strong reference to the key it was created from, e.g. by storing it in a field,
+     * so that the pool entry lives exactly as long as the value.
+     */
+    public WeakInterner(Function<? super K, ? extends V> factory) {
+        this.factory = requireNonNull(factory);
+    }
+
+    /**
+     * Returns the canonical value for {@code key}, creating and pooling it if there is none.
+     * Any exception thrown by the factory, e.g. for an invalid key, is passed on and nothing is pooled.
+     */
+    public synchronized V intern(K key) {
+        requireNonNull(key);
+        WeakReference<V> reference = pool.get(key);
+        V value = reference == null ? null : reference.get();
+        if (value == null) {
+            value = factory.apply(key);
+            // Drops any stale entry first, as put would keep its key rather than the one the new value refers to
+            pool.remove(key);
+            pool.put(key, new WeakReference<>(value));
+        }
+        return value;
+    }
+
+    /**
+     * Returns the number of values in the pool, counting values that are no longer used but not yet collected.
+     */
+    public synchronized int size() {
+        return pool.size();
+    }
+
+    /**
+     * Clears the reference to the value pooled for {@code key}, as the garbage collector would once the value is
+     * no longer used, so that tests need not rely on a collection running.
+     */
+    synchronized void clearReference(K key) {
+        WeakReference<V> reference = pool.get(key);
+        if (reference != null) {
+            reference.clear();
+        }
+    }
+}
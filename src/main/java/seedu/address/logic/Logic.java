@@ -2,6 +2,7 @@ package seedu.address.logic;
 
 import java.nio.file.Path;
 import java.util.List;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -25,6 +26,17 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Sets the handler given the error message of each failed save of the address book.
+     * Saves run in the background, so the handler is called on a background thread.
+     */
+    void setSaveFailureHandler(Consumer<String> handler);
+
+    /**
+     * Blocks until every change made to the address book so far has been saved, or its save has failed.
+     */
+    void flushPendingSaves();
+
     /**
      * Returns the AddressBook.
      *
@@ -64,11 +76,21 @@ public interface Logic {
      */
     String getAssignedCaregiverName(Senior senior);
 
+    /**
+     * Returns the Senior's assigned caregiver, or null if the senior has none.
+     */
+    Caregiver getAssignedCaregiver(Senior senior);
+
     /**
      * Returns the names of the Caregiver's assigned seniors.
      */
     List<String> getAssignedSeniorNames(Caregiver caregiver);
 
+    /**
+     * Returns the Caregiver's assigned seniors, ordered by senior id.
+     */
+    List<Senior> getAssignedSeniors(Caregiver caregiver);
+
     /**
      * Returns list of all seniors.
      */
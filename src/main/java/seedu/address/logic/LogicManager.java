@@ -1,9 +1,12 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
 import java.util.List;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -19,6 +22,7 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Caregiver;
 import seedu.address.model.person.Senior;
 import seedu.address.storage.Storage;
+import seedu.address.storage.WriteBehindAddressBookSaver;
 
 /**
  * The main LogicManager of the app.
@@ -29,18 +33,27 @@ public class LogicManager implements Logic {
     public static final String FILE_OPS_PERMISSION_ERROR_FORMAT =
             "Could not save data to file %s due to insufficient permissions to write to the file or the folder.";
 
+    private static final long NOT_SAVED = -1;
+
     private final Logger logger = LogsCenter.getLogger(LogicManager.class);
 
     private final Model model;
-    private final Storage storage;
+    private final WriteBehindAddressBookSaver saver;
     private final AddressBookParser addressBookParser;
 
+    /**
+     * Version of the model's address book last handed to the saver,
+     * or {@code NOT_SAVED} before the first save and after a failed one.
+     */
+    private volatile long savedAddressBookVersion = NOT_SAVED;
+    private volatile Consumer<String> saveFailureHandler = message -> { };
+
     /**
      * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
      */
     public LogicManager(Model model, Storage storage) {
         this.model = model;
-        this.storage = storage;
+        this.saver = new WriteBehindAddressBookSaver(storage, this::handleSaveFailure);
         addressBookParser = new AddressBookParser();
     }
 
@@ -51,17 +64,43 @@ public class LogicManager implements Logic {
         Command command = addressBookParser.parseCommand(commandText);
         CommandResult commandResult = command.execute(model);
 
-        try {
-            storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
-        } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+        // Read-only commands leave the version unchanged, so there is nothing new to write
+        long version = model.getAddressBookVersion();
+        if (version == savedAddressBookVersion) {
+            return commandResult;
         }
 
+        // Recorded before handing over, so that a failure reported right away is not overwritten
+        savedAddressBookVersion = version;
+        saver.save(model.getAddressBook());
+
         return commandResult;
     }
 
+    @Override
+    public void setSaveFailureHandler(Consumer<String> handler) {
+        requireNonNull(handler);
+        saveFailureHandler = handler;
+    }
+
+    @Override
+    public void flushPendingSaves() {
+        saver.flush();
+    }
+
+    /**
+     * Forgets the saved version so that the next command writes the data again,
+     * and passes a description of {@code e} to the save failure handler.
+     */
+    private void handleSaveFailure(IOException e) {
+        savedAddressBookVersion = NOT_SAVED;
+        if (e instanceof AccessDeniedException) {
+            saveFailureHandler.accept(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()));
+        } else {
+            saveFailureHandler.accept(String.format(FILE_OPS_ERROR_FORMAT, e.getMessage()));
+        }
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -107,11 +146,21 @@ public class LogicManager implements Logic {
         return model.getAssignedCaregiverName(senior);
     }
 
+    @Override
+    public Caregiver getAssignedCaregiver(Senior senior) {
+        return model.getAssignedCaregiver(senior);
+    }
+
     @Override
     public List<String> getAssignedSeniorNames(Caregiver caregiver) {
         return model.getAssignedSeniorNames(caregiver);
     }
 
+    @Override
+    public List<Senior> getAssignedSeniors(Caregiver caregiver) {
+        return model.getAssignedSeniors(caregiver);
+    }
+
     @Override
     public ObservableList<Senior> getAllSeniorList() {
         return model.getAllSeniorList();
@@ -83,7 +83,7 @@ public class AddSeniorCommand extends Command {
                 throw new CommandException(String.format(MESSAGE_NO_SUCH_CAREGIVER, caregiverId));
             }
             final int seniorId = model.allocateSeniorId();
-            toAddFinal = toAdd.withId(seniorId).withCaregiver(caregiver);
+            toAddFinal = toAdd.withId(seniorId).withCaregiverId(caregiver.getId());
             model.addSenior(toAddFinal);
         }
         model.updateFilteredCaregiverList(Model.PREDICATE_SHOW_ALL_PERSONS);
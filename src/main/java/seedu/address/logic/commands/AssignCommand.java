@@ -6,8 +6,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_CAREGIVER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SENIOR;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.List;
-
 import seedu.address.commons.util.CommandUtil;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.exceptions.CommandException;
@@ -55,8 +53,6 @@ public class AssignCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Senior> fullSeniorList = model.getAllSeniorList();
-        List<Caregiver> fullCaregiverList = model.getAllCaregiverList();
 
         // Validate caregiver and senior index
         CommandUtil.validateIndex(seniorIndex, MESSAGE_INVALID_SENIOR_INDEX);
@@ -65,16 +61,16 @@ public class AssignCommand extends Command {
 
         // Find senior by seniorIndex
         Senior senior = CommandUtil.findSeniorById(
-                fullSeniorList, seniorIndex, MESSAGE_INVALID_SENIOR_INDEX);
+                model, seniorIndex, MESSAGE_INVALID_SENIOR_INDEX);
 
 
         // Find caregiver by caregiverIndex
         Caregiver caregiver = CommandUtil.findCaregiverById(
-                fullCaregiverList, caregiverIndex, MESSAGE_INVALID_CAREGIVER_INDEX);
+                model, caregiverIndex, MESSAGE_INVALID_CAREGIVER_INDEX);
 
 
         // Check if already assigned
-        if (senior.hasCaregiver() && senior.getCaregiver().isSamePerson(caregiver)) {
+        if (caregiver.getId().equals(senior.getCaregiverId())) {
             throw new CommandException(MESSAGE_ALREADY_ASSIGNED);
         }
 
@@ -100,7 +96,7 @@ public class AssignCommand extends Command {
                 senior.getAddress(),
                 senior.getRiskTag(),
                 senior.getNote(),
-                caregiver,
+                caregiver.getId(),
                 senior.getId(),
                 senior.getPinned()
         );
@@ -3,7 +3,6 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.List;
 import java.util.Objects;
 
 import seedu.address.commons.util.CommandUtil;
@@ -55,25 +54,23 @@ public class DeleteCommand extends Command {
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
-        List<Senior> fullSeniorList = model.getAllSeniorList();
-        List<Caregiver> fullCaregiverList = model.getAllCaregiverList();
 
         // Find senior by seniorId
         Senior senior = CommandUtil.validateOptionalSeniorId(
-                fullSeniorList, seniorIndex, MESSAGE_INVALID_SENIOR_INDEX);
+                model, seniorIndex, MESSAGE_INVALID_SENIOR_INDEX);
 
         // Find caregiver by caregiverId
         Caregiver caregiver = CommandUtil.validateOptionalCaregiverId(
-                fullCaregiverList, caregiverIndex, MESSAGE_INVALID_CAREGIVER_INDEX);
+                model, caregiverIndex, MESSAGE_INVALID_CAREGIVER_INDEX);
 
         // If deleting a caregiver, clear references from seniors
         if (senior != null) {
             model.deleteSenior(senior);
         }
         if (caregiver != null) {
-            model.getAddressBook().getSeniorList().stream()
-                    .filter(s -> s.getCaregiver() != null && s.getCaregiver().isSamePerson(caregiver))
-                    .forEach(s -> s.setCaregiver(null));
+            for (Senior assigned : model.getAssignedSeniors(caregiver)) {
+                model.setSenior(assigned, assigned.withCaregiverId(null));
+            }
             model.deleteCaregiver(caregiver);
         }
 
@@ -4,8 +4,6 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.commands.DeleteCommand.MESSAGE_INVALID_CAREGIVER_INDEX;
 import static seedu.address.logic.commands.DeleteCommand.MESSAGE_INVALID_SENIOR_INDEX;
 
-import java.util.List;
-import java.util.Objects;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -73,22 +71,16 @@ public class EditCommand extends Command {
                 : "All caregiver list must not be null";
 
         if (isSenior) {
-            List<Senior> fullSeniorList = model.getAllSeniorList();
-
             CommandUtil.validateIndex(index, MESSAGE_INVALID_SENIOR_INDEX);
 
             // Find senior by seniorIndex
             Senior seniorToEdit = CommandUtil.findSeniorById(
-                    fullSeniorList, index, MESSAGE_INVALID_SENIOR_INDEX);
+                    model, index, MESSAGE_INVALID_SENIOR_INDEX);
 
-            // Resolve caregiver ID to object if present
+            // Check that the caregiver to assign exists
             if (editPersonDescriptor.getCaregiverId().isPresent()) {
                 Integer caregiverId = editPersonDescriptor.getCaregiverId().get();
-                Caregiver caregiver = model.getAllCaregiverList().stream()
-                        .filter(c -> caregiverId.equals(c.getId()))
-                        .findFirst()
-                        .orElseThrow(() -> new CommandException("No caregiver found with ID " + caregiverId));
-                editPersonDescriptor.setCaregiver(caregiver);
+                CommandUtil.findCaregiverById(model, caregiverId, "No caregiver found with ID " + caregiverId);
             }
 
             if (!editPersonDescriptor.isAnyFieldEdited()) {
@@ -97,8 +89,7 @@ public class EditCommand extends Command {
 
             Phone maybeUpdatedPhone = editPersonDescriptor.getPhone().orElse(null);
             if (maybeUpdatedPhone != null
-                    && (isPhoneInUseByOtherSenior(model, maybeUpdatedPhone, seniorToEdit.getId())
-                    || isPhoneInUseByOtherCaregiver(model, maybeUpdatedPhone, null))) {
+                    && model.hasPhoneOtherThan(maybeUpdatedPhone, seniorToEdit)) {
                 throw new CommandException(MESSAGE_DUPLICATE_PERSON);
             }
 
@@ -127,13 +118,11 @@ public class EditCommand extends Command {
                     String.format(MESSAGE_EDIT_PERSON_SUCCESS, "Senior", Messages.formatSenior(editedSenior)));
 
         } else {
-            List<Caregiver> fullCaregiverList = model.getAllCaregiverList();
-
             CommandUtil.validateIndex(index, MESSAGE_INVALID_CAREGIVER_INDEX);
 
             // Find senior by seniorIndex
             Caregiver caregiverToEdit = CommandUtil.findCaregiverById(
-                    fullCaregiverList, index, MESSAGE_INVALID_CAREGIVER_INDEX);
+                    model, index, MESSAGE_INVALID_CAREGIVER_INDEX);
 
             if (!editPersonDescriptor.isAnyFieldEdited()) {
                 throw new CommandException(MESSAGE_NOT_EDITED);
@@ -141,8 +130,7 @@ public class EditCommand extends Command {
 
             Phone maybeUpdatedPhone = editPersonDescriptor.getPhone().orElse(null);
             if (maybeUpdatedPhone != null
-                    && (isPhoneInUseByOtherSenior(model, maybeUpdatedPhone, null)
-                    || isPhoneInUseByOtherCaregiver(model, maybeUpdatedPhone, caregiverToEdit.getId()))) {
+                    && model.hasPhoneOtherThan(maybeUpdatedPhone, caregiverToEdit)) {
                 throw new CommandException(MESSAGE_DUPLICATE_PERSON);
             }
 
@@ -167,18 +155,6 @@ public class EditCommand extends Command {
 
             log.info(() -> "Updated caregiver in model: id=" + editedCaregiver.getId());
 
-            int targetId = caregiverToEdit.getId();
-            int rebound = 0;
-            for (Senior s : model.getAllSeniorList()) {
-                if (s.getCaregiverId() != null && s.getCaregiverId().equals(targetId)) {
-                    Senior updated = s.withCaregiver(editedCaregiver);
-                    model.setSenior(s, updated);
-                    rebound++;
-                }
-            }
-
-            log.info("Rebound " + rebound + " seniors to caregiverId=" + targetId);
-
             model.updateFilteredCaregiverList(Model.PREDICATE_SHOW_ALL_PERSONS);
             model.updateFilteredSeniorList(Model.PREDICATE_SHOW_ALL_PERSONS);
 
@@ -187,18 +163,6 @@ public class EditCommand extends Command {
         }
     }
 
-    private static boolean isPhoneInUseByOtherSenior(Model model, Phone phone, Integer ignoreSeniorId) {
-        return model.getAllSeniorList().stream()
-                .anyMatch(senior -> !Objects.equals(senior.getId(), ignoreSeniorId)
-                        && senior.getPhone().equals(phone));
-    }
-
-    private static boolean isPhoneInUseByOtherCaregiver(Model model, Phone phone, Integer ignoreCaregiverId) {
-        return model.getAllCaregiverList().stream()
-                .anyMatch(caregiver -> !Objects.equals(caregiver.getId(), ignoreCaregiverId)
-                        && caregiver.getPhone().equals(phone));
-    }
-
     @Override
     public boolean equals(Object other) {
         return other == this
@@ -4,7 +4,6 @@ import java.util.Objects;
 import java.util.Optional;
 
 import seedu.address.model.person.Address;
-import seedu.address.model.person.Caregiver;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Note;
 import seedu.address.model.person.Phone;
@@ -22,8 +21,7 @@ public class EditPersonDescriptor {
     private Address address;
     private Note note;
     private Tag riskTag; // Senior only
-    private Caregiver caregiver; // actual Caregiver object, set in EditCommand
-    private Integer caregiverId; // temporary ID parsed from input
+    private Integer caregiverId; // Senior only
     private Boolean pinned;
 
     /**
@@ -35,7 +33,6 @@ public class EditPersonDescriptor {
         this.address = null;
         this.note = null;
         this.riskTag = null;
-        this.caregiver = null;
         this.caregiverId = null;
         this.pinned = null;
     }
@@ -51,7 +48,6 @@ public class EditPersonDescriptor {
         this.address = descriptor.address;
         this.note = descriptor.note;
         this.riskTag = descriptor.riskTag;
-        this.caregiver = descriptor.caregiver;
         this.caregiverId = descriptor.caregiverId;
         this.pinned = descriptor.pinned;
     }
@@ -65,7 +61,6 @@ public class EditPersonDescriptor {
                 || address != null
                 || note != null
                 || riskTag != null
-                || caregiver != null
                 || caregiverId != null
                 || pinned != null;
     }
@@ -110,14 +105,6 @@ public class EditPersonDescriptor {
         this.riskTag = riskTag;
     }
 
-    public Optional<Caregiver> getCaregiver() {
-        return Optional.ofNullable(caregiver);
-    }
-
-    public void setCaregiver(Caregiver caregiver) {
-        this.caregiver = caregiver;
-    }
-
     public Optional<Integer> getCaregiverId() {
         return Optional.ofNullable(caregiverId);
     }
@@ -145,13 +132,12 @@ public class EditPersonDescriptor {
                 && Objects.equals(address, that.address)
                 && Objects.equals(note, that.note)
                 && Objects.equals(riskTag, that.riskTag)
-                && Objects.equals(caregiver, that.caregiver)
                 && Objects.equals(caregiverId, that.caregiverId)
                 && Objects.equals(pinned, that.pinned);
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, phone, address, note, riskTag, caregiver, caregiverId, pinned);
+        return Objects.hash(name, phone, address, note, riskTag, caregiverId, pinned);
     }
 }
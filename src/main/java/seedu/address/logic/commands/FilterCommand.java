@@ -3,11 +3,14 @@ package seedu.address.logic.commands;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
-import java.util.function.Predicate;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.Set;
 
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
-import seedu.address.model.person.Person;
+import seedu.address.model.person.RiskLevel;
+import seedu.address.model.person.Senior;
 
 
 /**
@@ -25,16 +28,24 @@ public class FilterCommand extends Command {
             + "Example: " + COMMAND_WORD + " " + PREFIX_TAG + "hr";
 
     public static final String MESSAGE_NO_TAG = "Please provide at least one tag.\n" + MESSAGE_USAGE;
-    private final Predicate<Person> predicate;
-
-    public FilterCommand(Predicate<Person> predicate) {
-        this.predicate = requireNonNull(predicate);
+    private final Set<RiskLevel> riskLevels;
+
+    /**
+     * Creates a FilterCommand to list the seniors whose risk level is any of {@code riskLevels}.
+     */
+    public FilterCommand(Set<RiskLevel> riskLevels) {
+        requireNonNull(riskLevels);
+        this.riskLevels = riskLevels.isEmpty()
+                ? Collections.emptySet()
+                : Collections.unmodifiableSet(EnumSet.copyOf(riskLevels));
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredSeniorList(predicate);
+        // Answer from the model's risk buckets instead of testing every senior's tag
+        Set<Senior> matched = model.getSeniorsWithRisk(riskLevels);
+        model.updateFilteredSeniorList(matched::contains);
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredSeniorList().size()));
     }
@@ -42,11 +53,11 @@ public class FilterCommand extends Command {
     @Override
     public boolean equals(Object other) {
         return other == this
-                || (other instanceof FilterCommand && predicate.equals(((FilterCommand) other).predicate));
+                || (other instanceof FilterCommand && riskLevels.equals(((FilterCommand) other).riskLevels));
     }
 
     @Override
     public String toString() {
-        return getClass().getCanonicalName() + "{predicate=" + predicate + "}";
+        return getClass().getCanonicalName() + "{riskLevels=" + riskLevels + "}";
     }
 }
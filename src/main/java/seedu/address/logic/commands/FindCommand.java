@@ -2,14 +2,23 @@ package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.model.Model;
+import seedu.address.model.person.Caregiver;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Senior;
 
 /**
  * Finds and lists all persons in address book whose name contains any of the argument keywords.
  * Keyword matching is case-insensitive.
+ * In fuzzy mode, keywords may be misspelt or partial, and only the closest matches are listed, closest first.
  */
 public class FindCommand extends Command {
 
@@ -17,25 +26,64 @@ public class FindCommand extends Command {
 
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) and displays them as a list with index numbers.\n"
-            + "Parameters: KEYWORD [MORE_KEYWORDS]...\n"
-            + "Example: " + COMMAND_WORD + " alice bob charlie";
+            + "Add --fuzzy to also match misspelt or partial names; only the closest matches are listed.\n"
+            + "Parameters: [--fuzzy] KEYWORD [MORE_KEYWORDS]...\n"
+            + "Example: " + COMMAND_WORD + " alice bob charlie\n"
+            + "Example: " + COMMAND_WORD + " --fuzzy alce";
+
+    public static final String FUZZY_FLAG = "--fuzzy";
+
+    /** Maximum number of seniors, and of caregivers, listed by a fuzzy search. */
+    public static final int FUZZY_RESULT_LIMIT = 20;
 
     private final NameContainsKeywordsPredicate predicate;
+    private final boolean isFuzzy;
 
     public FindCommand(NameContainsKeywordsPredicate predicate) {
+        this(predicate, false);
+    }
+
+    /**
+     * Creates a FindCommand for the keywords of {@code predicate}, matching names fuzzily if {@code isFuzzy}.
+     */
+    public FindCommand(NameContainsKeywordsPredicate predicate, boolean isFuzzy) {
         this.predicate = predicate;
+        this.isFuzzy = isFuzzy;
     }
 
     @Override
     public CommandResult execute(Model model) {
         requireNonNull(model);
-        model.updateFilteredSeniorList(predicate);
-        model.updateFilteredCaregiverList(predicate);
+        // Resolve the keywords through the model's name indexes instead of testing every person's name
+        if (isFuzzy) {
+            Map<Senior, Integer> seniorRanks =
+                    toRanks(model.findSeniorsBySimilarName(predicate.getKeywords(), FUZZY_RESULT_LIMIT));
+            Map<Caregiver, Integer> caregiverRanks =
+                    toRanks(model.findCaregiversBySimilarName(predicate.getKeywords(), FUZZY_RESULT_LIMIT));
+            model.updateFilteredSeniorList(seniorRanks::containsKey, Comparator.comparing(seniorRanks::get));
+            model.updateFilteredCaregiverList(caregiverRanks::containsKey, Comparator.comparing(caregiverRanks::get));
+        } else {
+            Set<Senior> matchedSeniors = model.findSeniorsByName(predicate.getKeywords());
+            Set<Caregiver> matchedCaregivers = model.findCaregiversByName(predicate.getKeywords());
+            model.updateFilteredSeniorList(matchedSeniors::contains);
+            model.updateFilteredCaregiverList(matchedCaregivers::contains);
+        }
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW,
                         model.getFilteredSeniorList().size() + model.getFilteredCaregiverList().size()));
     }
 
+    /**
+     * Returns the position of each person in {@code ranked}, keyed by reference.
+     */
+    private static <T> Map<T, Integer> toRanks(List<T> ranked) {
+        Map<T, Integer> ranks = new IdentityHashMap<>();
+        for (int i = 0; i < ranked.size(); i++) {
+            ranks.put(ranked.get(i), i);
+        }
+        return ranks;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -48,13 +96,14 @@ public class FindCommand extends Command {
         }
 
         FindCommand otherFindCommand = (FindCommand) other;
-        return predicate.equals(otherFindCommand.predicate);
+        return predicate.equals(otherFindCommand.predicate) && isFuzzy == otherFindCommand.isFuzzy;
     }
 
     @Override
     public String toString() {
         return new ToStringBuilder(this)
                 .add("predicate", predicate)
+                .add("isFuzzy", isFuzzy)
                 .toString();
     }
 }
@@ -60,11 +60,11 @@ public class PinCommand extends Command {
 
         // Find senior by seniorIndex
         Senior senior = CommandUtil.validateOptionalSeniorId(
-                fullSeniorList, seniorIndex, MESSAGE_INVALID_SENIOR_INDEX);
+                model, seniorIndex, MESSAGE_INVALID_SENIOR_INDEX);
 
         // Find caregiver by caregiverIndex
         Caregiver caregiver = CommandUtil.validateOptionalCaregiverId(
-                fullCaregiverList, caregiverIndex, MESSAGE_INVALID_CAREGIVER_INDEX);
+                model, caregiverIndex, MESSAGE_INVALID_CAREGIVER_INDEX);
 
         // Already pinned? (use boolean flag)
         if (senior != null && senior.getPinned()) {
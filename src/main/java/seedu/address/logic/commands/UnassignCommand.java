@@ -5,7 +5,6 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_CAREGIVER;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_SENIOR;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.List;
 import java.util.logging.Logger;
 
 import seedu.address.commons.core.LogsCenter;
@@ -61,33 +60,30 @@ public class UnassignCommand extends Command {
                 "Executing unassign with SeniorIndex=%d, CaregiverIndex=%d",
                 seniorIndex, caregiverIndex));
 
-        List<Senior> fullSeniorList = model.getAllSeniorList();
-        List<Caregiver> fullCaregiverList = model.getAllCaregiverList();
-
         // Validate senior and caregiver index
         CommandUtil.validateIndex(seniorIndex, MESSAGE_INVALID_SENIOR_INDEX);
         CommandUtil.validateIndex(caregiverIndex, MESSAGE_INVALID_CAREGIVER_INDEX);
 
         logger.fine("Validated indices successfully.");
         // Find senior by seniorIndex
-        Senior senior = CommandUtil.findSeniorById(fullSeniorList, seniorIndex, MESSAGE_INVALID_SENIOR_INDEX);
+        Senior senior = CommandUtil.findSeniorById(model, seniorIndex, MESSAGE_INVALID_SENIOR_INDEX);
 
         // Find caregiver by caregiverIndex
         Caregiver caregiver = CommandUtil.findCaregiverById(
-                fullCaregiverList, caregiverIndex, MESSAGE_INVALID_CAREGIVER_INDEX);
+                model, caregiverIndex, MESSAGE_INVALID_CAREGIVER_INDEX);
 
         // Check if assigned correctly
-        if (!(senior.hasCaregiver() && senior.getCaregiver().isSamePerson(caregiver))) {
+        if (!caregiver.getId().equals(senior.getCaregiverId())) {
             logger.warning(() -> String.format(
                     "Unassign failed: Caregiver %s is not assigned to Senior %s",
                     caregiver.getName(), senior.getName()));
             throw new CommandException(MESSAGE_NOT_ASSIGNED);
         }
 
-        assert senior.getCaregiver() != null
+        assert senior.hasCaregiver()
                 : "Senior must have a caregiver before unassigning";
 
-        assert senior.getCaregiver().isSamePerson(caregiver)
+        assert caregiver.getId().equals(senior.getCaregiverId())
                 : "Senior's caregiver must match the caregiver to unassign";
 
         // Build updated senior with caregiver removed
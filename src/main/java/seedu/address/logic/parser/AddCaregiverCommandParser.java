@@ -41,7 +41,7 @@ public class AddCaregiverCommandParser implements Parser<AddCaregiverCommand> {
         // Optional fields
         Address address = argMultimap.getValue(PREFIX_ADDRESS).isPresent()
                 ? ParserUtil.parseAddress(argMultimap.getValue(PREFIX_ADDRESS).get())
-                : new Address("N/A"); // keep Address non-empty for validation
+                : Address.of("N/A"); // keep Address non-empty for validation
         Note note = ParserUtil.parseNote(argMultimap.getValue(PREFIX_NOTE).orElse(""));
 
         Caregiver caregiver = new Caregiver(name, phone, address, note, null, false);
@@ -3,20 +3,20 @@ package seedu.address.logic.parser;
 import static seedu.address.logic.commands.FilterCommand.MESSAGE_NO_TAG;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
-import java.util.ArrayList;
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Set;
 
 import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.person.PersonHasAnyTagPredicate;
+import seedu.address.model.person.RiskLevel;
 
 /**
  * Parses input arguments and creates a new FilterCommand object
  */
 public class FilterCommandParser implements Parser<FilterCommand> {
 
-    // Accept exactly these; inputs may be upper/lower case, we normalize later.
+    // Accept exactly these; inputs may be upper/lower case, each names a RiskLevel.
     private static final Set<String> ALLOWED = Set.of("lr", "mr", "hr", "LR", "MR", "HR");
 
     @Override
@@ -24,7 +24,7 @@ public class FilterCommandParser implements Parser<FilterCommand> {
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TAG);
 
         List<String> rawTags = argMultimap.getAllValues(PREFIX_TAG);
-        List<String> tags = new ArrayList<>();
+        Set<RiskLevel> riskLevels = EnumSet.noneOf(RiskLevel.class);
 
         for (String s : rawTags) {
             String t = s.trim();
@@ -34,13 +34,13 @@ public class FilterCommandParser implements Parser<FilterCommand> {
             if (!ALLOWED.contains(t)) {
                 throw new ParseException("Invalid tag: \"" + t + "\".\nAllowed: lr, mr, hr, LR, MR, HR.");
             }
-            tags.add(t.toLowerCase()); // normalize to lr/mr/hr
+            riskLevels.add(RiskLevel.fromString(t));
         }
 
-        if (tags.isEmpty()) {
+        if (riskLevels.isEmpty()) {
             throw new ParseException(MESSAGE_NO_TAG);
         }
 
-        return new FilterCommand(new PersonHasAnyTagPredicate(tags));
+        return new FilterCommand(riskLevels);
     }
 }
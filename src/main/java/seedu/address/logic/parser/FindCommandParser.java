@@ -26,8 +26,16 @@ public class FindCommandParser implements Parser<FindCommand> {
         }
 
         String[] nameKeywords = trimmedArgs.split("\\s+");
+        boolean isFuzzy = nameKeywords[0].equalsIgnoreCase(FindCommand.FUZZY_FLAG);
+        if (isFuzzy) {
+            nameKeywords = Arrays.copyOfRange(nameKeywords, 1, nameKeywords.length);
+        }
+        if (nameKeywords.length == 0) {
+            throw new ParseException(
+                    String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+        }
 
-        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)));
+        return new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList(nameKeywords)), isFuzzy);
     }
 
 }
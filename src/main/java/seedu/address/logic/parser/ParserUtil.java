@@ -1,9 +1,12 @@
 package seedu.address.logic.parser;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.construct;
 
 import java.util.Locale;
+import java.util.regex.Pattern;
 
+import seedu.address.commons.util.StringUtil;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Name;
@@ -19,6 +22,8 @@ public class ParserUtil {
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
     public static final String MESSAGE_EMPTY_INDEX = "Index cannot be empty.";
 
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
      * trimmed.
@@ -37,7 +42,7 @@ public class ParserUtil {
         }
 
         // only digits allowed (no spaces, signs, or letters)
-        if (!trimmed.matches("\\d+")) {
+        if (!StringUtil.isAsciiDigits(trimmed)) {
             throw new ParseException(MESSAGE_INVALID_INDEX);
         }
 
@@ -58,10 +63,7 @@ public class ParserUtil {
     public static Name parseName(String name) throws ParseException {
         requireNonNull(name);
         String trimmedName = name.trim();
-        if (!Name.isValidName(trimmedName)) {
-            throw new ParseException(Name.MESSAGE_CONSTRAINTS);
-        }
-        return new Name(trimmedName);
+        return construct(trimmedName, Name::new, () -> new ParseException(Name.MESSAGE_CONSTRAINTS));
     }
 
     /**
@@ -73,10 +75,7 @@ public class ParserUtil {
     public static Phone parsePhone(String phone) throws ParseException {
         requireNonNull(phone);
         String trimmedPhone = phone.trim();
-        if (!Phone.isValidPhone(trimmedPhone)) {
-            throw new ParseException(Phone.MESSAGE_CONSTRAINTS);
-        }
-        return new Phone(trimmedPhone);
+        return construct(trimmedPhone, Phone::new, () -> new ParseException(Phone.MESSAGE_CONSTRAINTS));
     }
 
     /**
@@ -88,10 +87,7 @@ public class ParserUtil {
     public static Address parseAddress(String address) throws ParseException {
         requireNonNull(address);
         String trimmedAddress = address.trim();
-        if (!Address.isValidAddress(trimmedAddress)) {
-            throw new ParseException(Address.MESSAGE_CONSTRAINTS);
-        }
-        return new Address(trimmedAddress);
+        return construct(trimmedAddress, Address::of, () -> new ParseException(Address.MESSAGE_CONSTRAINTS));
     }
 
     /**
@@ -103,10 +99,7 @@ public class ParserUtil {
     public static Tag parseTag(String tag) throws ParseException {
         requireNonNull(tag);
         String trimmedTag = tag.trim();
-        if (!Tag.isValidTagName(trimmedTag)) {
-            throw new ParseException(Tag.MESSAGE_CONSTRAINTS);
-        }
-        return new Tag(trimmedTag);
+        return construct(trimmedTag, Tag::of, () -> new ParseException(Tag.MESSAGE_CONSTRAINTS));
     }
 
     /**
@@ -118,10 +111,7 @@ public class ParserUtil {
     public static Note parseNote(String note) throws ParseException {
         requireNonNull(note);
         String trimmedNote = note.trim();
-        if (!Note.isValidNote(trimmedNote)) {
-            throw new ParseException(Note.MESSAGE_CONSTRAINTS); // fixed: was Address.MESSAGE_CONSTRAINTS
-        }
-        return new Note(trimmedNote);
+        return construct(trimmedNote, Note::of, () -> new ParseException(Note.MESSAGE_CONSTRAINTS));
     }
 
     // ----------------------------
@@ -134,17 +124,17 @@ public class ParserUtil {
      */
     public static Tag parseRiskTag(String raw) throws ParseException {
         requireNonNull(raw);
-        String s = raw.trim().toLowerCase(Locale.ROOT).replaceAll("\\s+", " ");
+        String s = WHITESPACE.matcher(raw.trim().toLowerCase(Locale.ROOT)).replaceAll(" ");
         switch (s) {
         case "high risk":
         case "hr":
-            return new Tag("HR");
+            return Tag.of("HR");
         case "medium risk":
         case "mr":
-            return new Tag("MR");
+            return Tag.of("MR");
         case "low risk":
         case "lr":
-            return new Tag("LR");
+            return Tag.of("LR");
         default:
             throw new ParseException(
                     "Invalid risk tag. "
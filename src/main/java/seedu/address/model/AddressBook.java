@@ -2,12 +2,16 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Set;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Caregiver;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.RiskLevel;
 import seedu.address.model.person.Senior;
 import seedu.address.model.person.UniquePersonList;
 
@@ -19,8 +23,15 @@ public class AddressBook implements ReadOnlyAddressBook {
 
     private final UniquePersonList<Senior> seniors;
     private final UniquePersonList<Caregiver> caregivers;
-    private int seniorSeq = 0; // last assigned senior id (not next)
-    private int caregiverSeq = 0; // last assigned caregiver id (not next)
+    private final PhoneIndex phoneIndex = new PhoneIndex();
+    private final AssignmentIndex assignmentIndex = new AssignmentIndex();
+    private final NameTokenIndex<Senior> seniorNames = new NameTokenIndex<>();
+    private final NameTokenIndex<Caregiver> caregiverNames = new NameTokenIndex<>();
+    private final NameTrigramIndex<Senior> seniorTrigrams = new NameTrigramIndex<>();
+    private final NameTrigramIndex<Caregiver> caregiverTrigrams = new NameTrigramIndex<>();
+    private final RiskIndex riskIndex = new RiskIndex();
+    private final IdAllocator seniorIds = new IdAllocator();
+    private final IdAllocator caregiverIds = new IdAllocator();
 
     public AddressBook() {}
 
@@ -32,77 +43,104 @@ public class AddressBook implements ReadOnlyAddressBook {
         resetData(toBeCopied);
     }
 
+    /** Returns the last allocated senior id (not next). */
+    @Override
     public int getSeniorSeq() {
-        return seniorSeq;
+        return seniorIds.getLastAllocated();
     }
 
+    /** Returns the last allocated caregiver id (not next). */
+    @Override
     public int getCaregiverSeq() {
-        return caregiverSeq;
+        return caregiverIds.getLastAllocated();
     }
 
+    /**
+     * Restores the last allocated senior id.
+     * Seniors added afterwards with a higher id raise it again.
+     */
     public void setSeniorSeq(int seq) {
-        if (seq < 0) {
-            seq = 0;
-        }
-        this.seniorSeq = seq;
+        seniorIds.setLastAllocated(seq);
     }
 
+    /**
+     * Restores the last allocated caregiver id.
+     * Caregivers added afterwards with a higher id raise it again.
+     */
     public void setCaregiverSeq(int seq) {
-        if (seq < 0) {
-            seq = 0;
-        }
-        this.caregiverSeq = seq;
+        caregiverIds.setLastAllocated(seq);
     }
 
     /** Returns next senior id by incrementing the sequence. */
     public int nextSeniorId() {
-        seniorSeq += 1;
-        return seniorSeq;
+        return seniorIds.next();
     }
 
     /** Returns next caregiver id by incrementing the sequence. */
     public int nextCaregiverId() {
-        caregiverSeq += 1;
-        return caregiverSeq;
+        return caregiverIds.next();
     }
 
-    /** Returns caregiver with matching id. */
-    public Caregiver getCaregiverWithId(Integer caregiverId) {
-        for (Caregiver caregiver: caregivers) {
-            int cid = caregiver.getId();
-            if (cid == caregiverId) {
-                return caregiver;
-            }
-        }
-        return null;
-    }
-
-    /** One-time recompute from existing data (for legacy files with no seq). */
-    public void recomputeSeqFromData() {
-        int seniorMax = 0;
-        int caregiverMax = 0;
-        for (Senior s : seniors) {
-            Integer sid = s.getId();
-            if (sid < 0) {
-                throw new IllegalArgumentException("Senior ID must be a positive integer.");
-            }
-            if (sid > seniorMax) {
-                seniorMax = sid;
-            }
-        }
+    /** Returns senior with matching id, or null if there is none. */
+    public Senior getSeniorWithId(int seniorId) {
+        return seniors.getById(seniorId);
+    }
 
-        for (Caregiver c : caregivers) {
-            int cid = c.getId();
-            if (cid < 0) {
-                throw new IllegalArgumentException("Caregiver ID must be a positive integer.");
-            }
-            if (cid > caregiverMax) {
-                caregiverMax = cid;
-            }
-        }
-        seniorSeq = Math.max(seniorSeq, seniorMax);
-        caregiverSeq = Math.max(caregiverSeq, caregiverMax);
+    /** Returns caregiver with matching id, or null if there is none. */
+    public Caregiver getCaregiverWithId(int caregiverId) {
+        return caregivers.getById(caregiverId);
     }
+
+    /**
+     * Returns the seniors assigned to the caregiver with {@code caregiverId}, in the order they were assigned.
+     * The returned list is an unmodifiable view that reflects later changes to the assignments.
+     */
+    public List<Senior> getSeniorsAssignedTo(int caregiverId) {
+        return assignmentIndex.getSeniorsAssignedTo(caregiverId);
+    }
+
+    /**
+     * Returns the seniors whose name contains any of {@code keywords} as a whole word, ignoring case.
+     * The returned set compares seniors by reference.
+     */
+    public Set<Senior> findSeniorsByName(Collection<String> keywords) {
+        return seniorNames.findAny(keywords);
+    }
+
+    /**
+     * Returns the caregivers whose name contains any of {@code keywords} as a whole word, ignoring case.
+     * The returned set compares caregivers by reference.
+     */
+    public Set<Caregiver> findCaregiversByName(Collection<String> keywords) {
+        return caregiverNames.findAny(keywords);
+    }
+
+    /**
+     * Returns up to {@code limit} seniors whose name is most similar to any of {@code keywords}, most similar first.
+     * Keywords may be misspelt or only the start of a word.
+     */
+    public List<Senior> findSeniorsBySimilarName(Collection<String> keywords, int limit) {
+        return seniorTrigrams.findSimilar(keywords, limit);
+    }
+
+    /**
+     * Returns up to {@code limit} caregivers whose name is most similar to any of {@code keywords},
+     * most similar first. Keywords may be misspelt or only the start of a word.
+     */
+    public List<Caregiver> findCaregiversBySimilarName(Collection<String> keywords, int limit) {
+        return caregiverTrigrams.findSimilar(keywords, limit);
+    }
+
+    /** Returns the seniors whose risk level is any of {@code levels}. */
+    public Set<Senior> getSeniorsWithRisk(Set<RiskLevel> levels) {
+        return riskIndex.getSeniorsWithRisk(levels);
+    }
+
+    /** Returns the number of seniors whose risk level is {@code level}. */
+    public int countSeniorsWithRisk(RiskLevel level) {
+        return riskIndex.count(level);
+    }
+
     /*
      * The 'unusual' code block below is a non-static initialization block, sometimes used to avoid duplication
      * between constructors. See https://docs.oracle.com/javase/tutorial/java/javaOO/initial.html
@@ -120,7 +158,13 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void setSeniors(List<Senior> persons) {
+        persons.forEach(senior -> seniorIds.observe(senior.getId()));
         this.seniors.setPersons(persons);
+        phoneIndex.reset(seniors, caregivers);
+        assignmentIndex.reset(seniors);
+        seniorNames.reset(seniors);
+        seniorTrigrams.reset(seniors);
+        riskIndex.reset(seniors);
     }
 
     /**
@@ -128,7 +172,11 @@ public class AddressBook implements ReadOnlyAddressBook {
      * {@code persons} must not contain duplicate persons.
      */
     public void setCaregivers(List<Caregiver> persons) {
+        persons.forEach(caregiver -> caregiverIds.observe(caregiver.getId()));
         this.caregivers.setPersons(persons);
+        phoneIndex.reset(seniors, caregivers);
+        caregiverNames.reset(caregivers);
+        caregiverTrigrams.reset(caregivers);
     }
 
     /**
@@ -137,6 +185,9 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void resetData(ReadOnlyAddressBook newData) {
         requireNonNull(newData);
 
+        // The sequences are restored first, so that the ids of the new persons can only raise them
+        setSeniorSeq(newData.getSeniorSeq());
+        setCaregiverSeq(newData.getCaregiverSeq());
         setSeniors(newData.getSeniorList());
         setCaregivers(newData.getCaregiverList());
     }
@@ -151,12 +202,32 @@ public class AddressBook implements ReadOnlyAddressBook {
         return seniors.contains(person) || caregivers.contains(person);
     }
 
+    /**
+     * Returns true if a senior or caregiver with the given {@code phone} exists in the address book.
+     */
+    public boolean hasPhone(Phone phone) {
+        return phoneIndex.contains(phone);
+    }
+
+    /**
+     * Returns true if a senior or caregiver other than {@code person} has the given {@code phone}.
+     */
+    public boolean hasPhoneOtherThan(Phone phone, Person person) {
+        return phoneIndex.isOwnedByOtherThan(phone, person);
+    }
+
     /**
      * Adds a senior to the address book.
      * The senior must not already exist in the address book.
      */
     public void addSenior(Senior p) {
         seniors.add(p);
+        seniorIds.observe(p.getId());
+        phoneIndex.add(p);
+        assignmentIndex.add(p);
+        seniorNames.add(p);
+        seniorTrigrams.add(p);
+        riskIndex.add(p);
     }
 
     /**
@@ -165,6 +236,10 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void addCaregiver(Caregiver p) {
         caregivers.add(p);
+        caregiverIds.observe(p.getId());
+        phoneIndex.add(p);
+        caregiverNames.add(p);
+        caregiverTrigrams.add(p);
     }
 
     /**
@@ -176,6 +251,17 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         seniors.setPerson(target, editedPerson);
+        seniorIds.observe(editedPerson.getId());
+        phoneIndex.remove(target);
+        phoneIndex.add(editedPerson);
+        assignmentIndex.remove(target);
+        assignmentIndex.add(editedPerson);
+        seniorNames.remove(target);
+        seniorNames.add(editedPerson);
+        seniorTrigrams.remove(target);
+        seniorTrigrams.add(editedPerson);
+        riskIndex.remove(target);
+        riskIndex.add(editedPerson);
     }
 
     /**
@@ -187,6 +273,13 @@ public class AddressBook implements ReadOnlyAddressBook {
         requireNonNull(editedPerson);
 
         caregivers.setPerson(target, editedPerson);
+        caregiverIds.observe(editedPerson.getId());
+        phoneIndex.remove(target);
+        phoneIndex.add(editedPerson);
+        caregiverNames.remove(target);
+        caregiverNames.add(editedPerson);
+        caregiverTrigrams.remove(target);
+        caregiverTrigrams.add(editedPerson);
     }
 
     /**
@@ -195,6 +288,11 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeSeniors(Senior key) {
         seniors.remove(key);
+        phoneIndex.remove(key);
+        assignmentIndex.remove(key);
+        seniorNames.remove(key);
+        seniorTrigrams.remove(key);
+        riskIndex.remove(key);
     }
 
     /**
@@ -203,6 +301,9 @@ public class AddressBook implements ReadOnlyAddressBook {
      */
     public void removeCaregiver(Caregiver key) {
         caregivers.remove(key);
+        phoneIndex.remove(key);
+        caregiverNames.remove(key);
+        caregiverTrigrams.remove(key);
     }
 
     //// util methods
@@ -0,0 +1,72 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import seedu.address.commons.util.IntHashMap;
+import seedu.address.model.person.Senior;
+
+/**
+ * Indexes the seniors of an address book by the id of their assigned caregiver.
+ * Lookups cost time proportional to the number of seniors assigned to a caregiver, not to the number of seniors.
+ */
+class AssignmentIndex {
+
+    private final IntHashMap<List<Senior>> seniorsByCaregiverId = new IntHashMap<>();
+
+    /**
+     * Records {@code senior} under its assigned caregiver, if it has one.
+     */
+    void add(Senior senior) {
+        requireNonNull(senior);
+        Integer caregiverId = senior.getCaregiverId();
+        if (caregiverId == null) {
+            return;
+        }
+        seniorsByCaregiverId.computeIfAbsent(caregiverId, unused -> new ArrayList<>(2)).add(senior);
+    }
+
+    /**
+     * Removes {@code senior} from under its assigned caregiver, if it has one.
+     */
+    void remove(Senior senior) {
+        requireNonNull(senior);
+        Integer caregiverId = senior.getCaregiverId();
+        if (caregiverId == null) {
+            return;
+        }
+        List<Senior> assigned = seniorsByCaregiverId.get(caregiverId);
+        if (assigned == null) {
+            return;
+        }
+        for (int i = 0; i < assigned.size(); i++) {
+            if (assigned.get(i) == senior) {
+                assigned.remove(i);
+                break;
+            }
+        }
+        if (assigned.isEmpty()) {
+            seniorsByCaregiverId.remove(caregiverId);
+        }
+    }
+
+    /**
+     * Returns an unmodifiable view of the seniors assigned to the caregiver with {@code caregiverId},
+     * in the order they were assigned.
+     */
+    List<Senior> getSeniorsAssignedTo(int caregiverId) {
+        List<Senior> assigned = seniorsByCaregiverId.get(caregiverId);
+        return assigned == null ? List.of() : Collections.unmodifiableList(assigned);
+    }
+
+    /**
+     * Replaces the index contents with the assignments of {@code seniors}.
+     */
+    void reset(Iterable<Senior> seniors) {
+        seniorsByCaregiverId.clear();
+        seniors.forEach(this::add);
+    }
+}
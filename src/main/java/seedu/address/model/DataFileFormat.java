@@ -0,0 +1,19 @@
+package seedu.address.model;
+
+/**
+ * The formats the address book data file can be saved in.
+ */
+public enum DataFileFormat {
+    /** A JSON file that can be read and edited by hand. */
+    JSON,
+    /** The same JSON file, with a journal beside it to which a save appends only what changed. */
+    JOURNALED_JSON,
+    /** A gzip-compressed JSON file, which is several times smaller to read and write on a slow drive. */
+    COMPRESSED_JSON,
+    /** A binary snapshot that loads faster but cannot be edited by hand. */
+    BINARY,
+    /** An embedded SQL database, which saves each change as a row update instead of rewriting the file. */
+    SQL,
+    /** A directory of JSON files, each holding some of the persons, of which a save rewrites only the changed ones. */
+    SHARDED
+}
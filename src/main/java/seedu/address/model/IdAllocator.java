@@ -0,0 +1,50 @@
+package seedu.address.model;
+
+/**
+ * Hands out monotonically increasing positive ids for one kind of person.
+ * The allocator remembers the last id it handed out and raises that mark whenever it observes a higher id,
+ * so allocating never needs to scan the persons already in the address book.
+ */
+class IdAllocator {
+
+    private int lastAllocated = 0; // last allocated id (not next)
+
+    /**
+     * Returns the last allocated id, or the highest observed id if that is greater.
+     */
+    int getLastAllocated() {
+        return lastAllocated;
+    }
+
+    /**
+     * Sets the last allocated id to {@code seq}, e.g. from a persisted sequence, or to 0 if it is negative.
+     */
+    void setLastAllocated(int seq) {
+        lastAllocated = Math.max(seq, 0);
+    }
+
+    /**
+     * Raises the mark to {@code id} if it is higher, so that it is never allocated again.
+     * A null id is ignored.
+     *
+     * @throws IllegalArgumentException if {@code id} is negative.
+     */
+    void observe(Integer id) {
+        if (id == null) {
+            return;
+        }
+        if (id < 0) {
+            throw new IllegalArgumentException("ID must be a positive integer.");
+        }
+        if (id > lastAllocated) {
+            lastAllocated = id;
+        }
+    }
+
+    /**
+     * Allocates and returns the next id.
+     */
+    int next() {
+        return ++lastAllocated;
+    }
+}
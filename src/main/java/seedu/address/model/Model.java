@@ -1,7 +1,10 @@
 package seedu.address.model;
 
 import java.nio.file.Path;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
@@ -9,6 +12,7 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Caregiver;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
+import seedu.address.model.person.RiskLevel;
 import seedu.address.model.person.Senior;
 
 /**
@@ -56,6 +60,12 @@ public interface Model {
     /** Returns the AddressBook */
     ReadOnlyAddressBook getAddressBook();
 
+    /**
+     * Returns the version of the address book data.
+     * The version changes whenever the data, including its id sequences, is modified, and only then.
+     */
+    long getAddressBookVersion();
+
     /**
      * Returns true if a person with the same identity as {@code person} exists in the address book.
      */
@@ -67,9 +77,19 @@ public interface Model {
     boolean hasPhone(Phone phone);
 
     /**
-     * Returns the caregiver with the same id as {@code caregiverId} in the address book.
+     * Returns true if a person other than {@code person} has the given {@code phone} in the address book.
+     */
+    boolean hasPhoneOtherThan(Phone phone, Person person);
+
+    /**
+     * Returns the senior with the same id as {@code seniorId} in the address book, or null if there is none.
      */
-    Caregiver getCaregiverWithId(Integer caregiverId);
+    Senior getSeniorWithId(int seniorId);
+
+    /**
+     * Returns the caregiver with the same id as {@code caregiverId} in the address book, or null if there is none.
+     */
+    Caregiver getCaregiverWithId(int caregiverId);
 
     /**
      * Deletes the given senior.
@@ -127,12 +147,63 @@ public interface Model {
      */
     void updateFilteredSeniorList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered senior list to filter by the given {@code predicate}, listing the seniors
+     * in the order of {@code comparator} instead of address book order until the filter is next updated.
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredSeniorList(Predicate<Person> predicate, Comparator<? super Senior> comparator);
+
     /**
      * Updates the filter of the filtered caregiver list to filter by the given {@code predicate}.
      * @throws NullPointerException if {@code predicate} is null.
      */
     void updateFilteredCaregiverList(Predicate<Person> predicate);
 
+    /**
+     * Updates the filter of the filtered caregiver list to filter by the given {@code predicate}, listing the
+     * caregivers in the order of {@code comparator} instead of address book order until the filter is next updated.
+     * @throws NullPointerException if {@code predicate} or {@code comparator} is null.
+     */
+    void updateFilteredCaregiverList(Predicate<Person> predicate, Comparator<? super Caregiver> comparator);
+
+    /**
+     * Returns the seniors whose name contains any of {@code keywords} as a whole word, ignoring case.
+     * The returned set compares seniors by reference and is not affected by later changes to the model.
+     */
+    Set<Senior> findSeniorsByName(Collection<String> keywords);
+
+    /**
+     * Returns the caregivers whose name contains any of {@code keywords} as a whole word, ignoring case.
+     * The returned set compares caregivers by reference and is not affected by later changes to the model.
+     */
+    Set<Caregiver> findCaregiversByName(Collection<String> keywords);
+
+    /**
+     * Returns up to {@code limit} seniors whose name is most similar to any of {@code keywords}, most similar first.
+     * Keywords may be misspelt or only the start of a word.
+     * @throws IllegalArgumentException if {@code limit} is not positive.
+     */
+    List<Senior> findSeniorsBySimilarName(Collection<String> keywords, int limit);
+
+    /**
+     * Returns up to {@code limit} caregivers whose name is most similar to any of {@code keywords},
+     * most similar first. Keywords may be misspelt or only the start of a word.
+     * @throws IllegalArgumentException if {@code limit} is not positive.
+     */
+    List<Caregiver> findCaregiversBySimilarName(Collection<String> keywords, int limit);
+
+    /**
+     * Returns the seniors whose risk level is any of {@code levels}.
+     * The returned set is not affected by later changes to the model.
+     */
+    Set<Senior> getSeniorsWithRisk(Set<RiskLevel> levels);
+
+    /**
+     * Returns the number of seniors whose risk level is {@code level}.
+     */
+    int countSeniorsWithRisk(RiskLevel level);
+
     /**
      * Allocates and returns the next caregiver identifier.
      * The identifier is unique within the address book and has the form {@code N},
@@ -164,8 +235,19 @@ public interface Model {
      */
     String getAssignedCaregiverName(Senior senior);
 
+    /**
+     * Returns the Senior's assigned caregiver, or null if the senior has none.
+     */
+    Caregiver getAssignedCaregiver(Senior senior);
+
     /**
      * Returns the names of the Caregiver's assigned seniors.
      */
     List<String> getAssignedSeniorNames(Caregiver caregiver);
+
+    /**
+     * Returns the seniors assigned to the Caregiver, ordered by senior id.
+     * The returned list is a snapshot and is not affected by later changes to the model.
+     */
+    List<Senior> getAssignedSeniors(Caregiver caregiver);
 }
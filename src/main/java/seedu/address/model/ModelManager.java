@@ -4,17 +4,23 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
 import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
 import javafx.collections.transformation.FilteredList;
+import javafx.collections.transformation.SortedList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Caregiver;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Phone;
+import seedu.address.model.person.RiskLevel;
 import seedu.address.model.person.Senior;
 
 /**
@@ -27,6 +33,9 @@ public class ModelManager implements Model {
     private final UserPrefs userPrefs;
     private final FilteredList<Senior> filteredSeniors;
     private final FilteredList<Caregiver> filteredCaregivers;
+    private final SortedList<Senior> sortedSeniors;
+    private final SortedList<Caregiver> sortedCaregivers;
+    private long addressBookVersion = 0;
 
     /**
      * Initializes a ModelManager with the given addressBook and userPrefs.
@@ -40,6 +49,8 @@ public class ModelManager implements Model {
         this.userPrefs = new UserPrefs(userPrefs);
         filteredSeniors = new FilteredList<>(this.addressBook.getSeniorList());
         filteredCaregivers = new FilteredList<>(this.addressBook.getCaregiverList());
+        sortedSeniors = new SortedList<>(filteredSeniors);
+        sortedCaregivers = new SortedList<>(filteredCaregivers);
     }
 
     public ModelManager() {
@@ -86,6 +97,7 @@ public class ModelManager implements Model {
     @Override
     public void setAddressBook(ReadOnlyAddressBook addressBook) {
         this.addressBook.resetData(addressBook);
+        addressBookVersion++;
     }
 
     @Override
@@ -93,6 +105,11 @@ public class ModelManager implements Model {
         return addressBook;
     }
 
+    @Override
+    public long getAddressBookVersion() {
+        return addressBookVersion;
+    }
+
     @Override
     public boolean hasPerson(Person person) {
         requireNonNull(person);
@@ -101,35 +118,49 @@ public class ModelManager implements Model {
 
     @Override
     public boolean hasPhone(Phone phone) {
-        return addressBook.getSeniorList().stream().anyMatch(p -> p.getPhone().equals(phone))
-                || addressBook.getCaregiverList().stream().anyMatch(p -> p.getPhone().equals(phone));
+        requireNonNull(phone);
+        return addressBook.hasPhone(phone);
     }
 
     @Override
-    public Caregiver getCaregiverWithId(Integer caregiverId) {
-        requireNonNull(caregiverId);
+    public boolean hasPhoneOtherThan(Phone phone, Person person) {
+        requireAllNonNull(phone, person);
+        return addressBook.hasPhoneOtherThan(phone, person);
+    }
+
+    @Override
+    public Senior getSeniorWithId(int seniorId) {
+        return addressBook.getSeniorWithId(seniorId);
+    }
+
+    @Override
+    public Caregiver getCaregiverWithId(int caregiverId) {
         return addressBook.getCaregiverWithId(caregiverId);
     }
 
     @Override
     public void deleteSenior(Senior target) {
         addressBook.removeSeniors(target);
+        addressBookVersion++;
     }
 
     @Override
     public void deleteCaregiver(Caregiver target) {
         addressBook.removeCaregiver(target);
+        addressBookVersion++;
     }
 
     @Override
     public void addSenior(Senior senior) {
         addressBook.addSenior(senior);
+        addressBookVersion++;
         updateFilteredSeniorList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
     @Override
     public void addCaregiver(Caregiver caregiver) {
         addressBook.addCaregiver(caregiver);
+        addressBookVersion++;
         updateFilteredCaregiverList(PREDICATE_SHOW_ALL_PERSONS);
     }
 
@@ -138,6 +169,7 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedPerson);
 
         addressBook.setSenior(target, editedPerson);
+        addressBookVersion++;
     }
 
     @Override
@@ -145,6 +177,7 @@ public class ModelManager implements Model {
         requireAllNonNull(target, editedPerson);
 
         addressBook.setCaregiver(target, editedPerson);
+        addressBookVersion++;
     }
 
     //=========== Filtered Person List Accessors =============================================================
@@ -173,7 +206,7 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Senior> getFilteredSeniorList() {
-        return filteredSeniors;
+        return sortedSeniors;
     }
 
     /**
@@ -182,19 +215,71 @@ public class ModelManager implements Model {
      */
     @Override
     public ObservableList<Caregiver> getFilteredCaregiverList() {
-        return filteredCaregivers;
+        return sortedCaregivers;
     }
 
     @Override
     public void updateFilteredSeniorList(Predicate<Person> predicate) {
         requireNonNull(predicate);
         filteredSeniors.setPredicate(predicate);
+        sortedSeniors.setComparator(null);
+    }
+
+    @Override
+    public void updateFilteredSeniorList(Predicate<Person> predicate, Comparator<? super Senior> comparator) {
+        requireAllNonNull(predicate, comparator);
+        filteredSeniors.setPredicate(predicate);
+        sortedSeniors.setComparator(comparator);
     }
 
     @Override
     public void updateFilteredCaregiverList(Predicate<Person> predicate) {
         requireNonNull(predicate);
         filteredCaregivers.setPredicate(predicate);
+        sortedCaregivers.setComparator(null);
+    }
+
+    @Override
+    public void updateFilteredCaregiverList(Predicate<Person> predicate, Comparator<? super Caregiver> comparator) {
+        requireAllNonNull(predicate, comparator);
+        filteredCaregivers.setPredicate(predicate);
+        sortedCaregivers.setComparator(comparator);
+    }
+
+    @Override
+    public Set<Senior> findSeniorsByName(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.findSeniorsByName(keywords);
+    }
+
+    @Override
+    public Set<Caregiver> findCaregiversByName(Collection<String> keywords) {
+        requireNonNull(keywords);
+        return addressBook.findCaregiversByName(keywords);
+    }
+
+    @Override
+    public List<Senior> findSeniorsBySimilarName(Collection<String> keywords, int limit) {
+        requireNonNull(keywords);
+        return addressBook.findSeniorsBySimilarName(keywords, limit);
+    }
+
+    @Override
+    public List<Caregiver> findCaregiversBySimilarName(Collection<String> keywords, int limit) {
+        requireNonNull(keywords);
+        return addressBook.findCaregiversBySimilarName(keywords, limit);
+    }
+
+    @Override
+    public Set<Senior> getSeniorsWithRisk(Set<RiskLevel> levels) {
+        requireNonNull(levels);
+        return addressBook.getSeniorsWithRisk(levels);
+    }
+
+    @Override
+    public int countSeniorsWithRisk(RiskLevel level) {
+        requireNonNull(level);
+        return addressBook.countSeniorsWithRisk(level);
     }
 
     @Override
@@ -211,30 +296,25 @@ public class ModelManager implements Model {
         ModelManager otherModelManager = (ModelManager) other;
         return addressBook.equals(otherModelManager.addressBook)
                 && userPrefs.equals(otherModelManager.userPrefs)
-                && filteredSeniors.equals(otherModelManager.filteredSeniors)
-                && filteredCaregivers.equals(otherModelManager.filteredCaregivers);
+                && sortedSeniors.equals(otherModelManager.sortedSeniors)
+                && sortedCaregivers.equals(otherModelManager.sortedCaregivers);
     }
 
     @Override
     public int allocateSeniorId() {
-        // Make sure the sequence reflects what's already in memory (sample or loaded)
-        addressBook.recomputeSeqFromData();
+        addressBookVersion++;
         return addressBook.nextSeniorId();
     }
 
     @Override
     public int allocateCaregiverId() {
-        // Make sure the sequence reflects what's already in memory (sample or loaded)
-        addressBook.recomputeSeqFromData();
+        addressBookVersion++;
         return addressBook.nextCaregiverId();
     }
 
     @Override
     public String getAssignedCaregiverName(Senior senior) {
-        if (senior == null) {
-            return null;
-        }
-        Caregiver cg = senior.getCaregiver();
+        Caregiver cg = getAssignedCaregiver(senior);
         if (cg == null) {
             return null;
         }
@@ -242,17 +322,28 @@ public class ModelManager implements Model {
     }
 
     @Override
-    public List<String> getAssignedSeniorNames(Caregiver caregiver) {
-        if (caregiver == null) {
-            return List.of();
+    public Caregiver getAssignedCaregiver(Senior senior) {
+        if (senior == null || !senior.hasCaregiver()) {
+            return null;
         }
-        return addressBook.getSeniorList().stream()
-                .filter(s -> {
-                    Caregiver c = s.getCaregiver();
-                    return c != null && c.isSamePerson(caregiver);
-                })
+        return addressBook.getCaregiverWithId(senior.getCaregiverId());
+    }
+
+    @Override
+    public List<String> getAssignedSeniorNames(Caregiver caregiver) {
+        return getAssignedSeniors(caregiver).stream()
                 .map(s -> s.getName().fullName)
                 .sorted(String::compareToIgnoreCase)
                 .toList();
     }
+
+    @Override
+    public List<Senior> getAssignedSeniors(Caregiver caregiver) {
+        if (caregiver == null || caregiver.getId() == null) {
+            return List.of();
+        }
+        List<Senior> assigned = new ArrayList<>(addressBook.getSeniorsAssignedTo(caregiver.getId()));
+        assigned.sort(Comparator.comparing(Senior::getId));
+        return assigned;
+    }
 }
@@ -0,0 +1,106 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Inverted index from the lower-cased words of persons' names to the persons having them.
+ * Looking up a keyword costs time proportional to the number of persons whose name has that word,
+ * not to the number of persons.
+ *
+ * @param <T> type of the indexed persons
+ */
+class NameTokenIndex<T extends Person> {
+
+    private final Map<String, List<T>> postings = new HashMap<>();
+
+    /**
+     * Records {@code person} under each word of its name.
+     */
+    void add(T person) {
+        requireNonNull(person);
+        for (String token : tokensOf(person)) {
+            postings.computeIfAbsent(token, unused -> new ArrayList<>(1)).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from under each word of its name.
+     */
+    void remove(T person) {
+        requireNonNull(person);
+        for (String token : tokensOf(person)) {
+            List<T> posting = postings.get(token);
+            if (posting == null) {
+                continue;
+            }
+            for (int i = 0; i < posting.size(); i++) {
+                if (posting.get(i).equals(person)) {
+                    posting.remove(i);
+                    break;
+                }
+            }
+            if (posting.isEmpty()) {
+                postings.remove(token);
+            }
+        }
+    }
+
+    /**
+     * Returns the persons whose name contains any of {@code keywords} as a whole word, ignoring case.
+     * Blank keywords match nobody. The returned set compares persons by reference.
+     */
+    Set<T> findAny(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<T> matches = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (String keyword : keywords) {
+            List<T> posting = postings.get(keyword.trim().toLowerCase(Locale.ROOT));
+            if (posting != null) {
+                matches.addAll(posting);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Replaces the index contents with the names of {@code persons}.
+     */
+    void reset(Iterable<T> persons) {
+        postings.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the distinct lower-cased words of the person's name.
+     * Valid names hold only alphanumeric characters and spaces, so words are split on spaces without a regex.
+     */
+    private static List<String> tokensOf(Person person) {
+        String fullName = person.getName().fullName;
+        List<String> tokens = new ArrayList<>(2);
+        int start = -1;
+        for (int i = 0; i <= fullName.length(); i++) {
+            boolean isSeparator = i == fullName.length() || Character.isWhitespace(fullName.charAt(i));
+            if (!isSeparator && start < 0) {
+                start = i;
+            } else if (isSeparator && start >= 0) {
+                String token = fullName.substring(start, i).toLowerCase(Locale.ROOT);
+                if (!tokens.contains(token)) {
+                    tokens.add(token);
+                }
+                start = -1;
+            }
+        }
+        return tokens;
+    }
+}
@@ -0,0 +1,121 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Index from the character trigrams of persons' names to the persons having them, for fuzzy and partial name search.
+ * Each word of a name is lower-cased and padded with two leading spaces and one trailing space before it is cut
+ * into trigrams, so a keyword sharing a prefix with a word shares that word's leading trigrams.
+ * A keyword is scored against a person by the fraction of the keyword's trigrams found in the person's name.
+ * The persons under each trigram are kept in a set, so removing a person does not scan the others sharing its trigrams.
+ *
+ * @param <T> type of the indexed persons
+ */
+class NameTrigramIndex<T extends Person> {
+
+    /** Persons scoring below this similarity against every keyword are never returned. */
+    static final double MIN_SIMILARITY = 0.3;
+
+    private final Map<String, Set<T>> postings = new HashMap<>();
+
+    /**
+     * Records {@code person} under each trigram of its name.
+     */
+    void add(T person) {
+        requireNonNull(person);
+        for (String trigram : trigramsOf(person.getName().fullName)) {
+            postings.computeIfAbsent(trigram, unused -> new LinkedHashSet<>(2)).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} from under each trigram of its name.
+     */
+    void remove(T person) {
+        requireNonNull(person);
+        for (String trigram : trigramsOf(person.getName().fullName)) {
+            Set<T> posting = postings.get(trigram);
+            if (posting != null && posting.remove(person) && posting.isEmpty()) {
+                postings.remove(trigram);
+            }
+        }
+    }
+
+    /**
+     * Returns up to {@code limit} persons whose name is most similar to any of {@code keywords}, most similar first.
+     * Persons with equal similarity keep the order in which they were first found.
+     *
+     * @throws IllegalArgumentException if {@code limit} is not positive.
+     */
+    List<T> findSimilar(Collection<String> keywords, int limit) {
+        requireNonNull(keywords);
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Number of results must be positive.");
+        }
+        Map<T, Double> bestScores = new IdentityHashMap<>();
+        List<T> candidates = new ArrayList<>();
+        for (String keyword : keywords) {
+            Set<String> keywordTrigrams = trigramsOf(keyword);
+            if (keywordTrigrams.isEmpty()) {
+                continue;
+            }
+            Map<T, int[]> sharedCounts = new IdentityHashMap<>();
+            for (String trigram : keywordTrigrams) {
+                for (T person : postings.getOrDefault(trigram, Set.of())) {
+                    sharedCounts.computeIfAbsent(person, unused -> new int[1])[0]++;
+                }
+            }
+            for (Map.Entry<T, int[]> entry : sharedCounts.entrySet()) {
+                double score = (double) entry.getValue()[0] / keywordTrigrams.size();
+                if (score < MIN_SIMILARITY) {
+                    continue;
+                }
+                Double previous = bestScores.put(entry.getKey(), score);
+                if (previous == null) {
+                    candidates.add(entry.getKey());
+                } else if (previous > score) {
+                    bestScores.put(entry.getKey(), previous);
+                }
+            }
+        }
+        candidates.sort((first, second) -> Double.compare(bestScores.get(second), bestScores.get(first)));
+        return candidates.size() <= limit ? candidates : new ArrayList<>(candidates.subList(0, limit));
+    }
+
+    /**
+     * Replaces the index contents with the names of {@code persons}.
+     */
+    void reset(Iterable<T> persons) {
+        postings.clear();
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns the distinct trigrams of the padded, lower-cased words of {@code text}.
+     */
+    private static Set<String> trigramsOf(String text) {
+        Set<String> trigrams = new LinkedHashSet<>();
+        for (String word : text.trim().split("\\s+")) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            String padded = "  " + word.toLowerCase(Locale.ROOT) + " ";
+            for (int i = 0; i + 3 <= padded.length(); i++) {
+                trigrams.add(padded.substring(i, i + 3));
+            }
+        }
+        return trigrams;
+    }
+}
@@ -0,0 +1,84 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+
+/**
+ * Indexes the seniors and caregivers of an address book by phone number.
+ * Commands keep phone numbers unique across both lists, but data loaded from disk may still share a number,
+ * so persons beyond the first owner of a phone are kept aside rather than overwritten.
+ */
+class PhoneIndex {
+
+    private final Map<Phone, Person> firstOwners = new HashMap<>();
+    private final Map<Phone, List<Person>> otherOwners = new HashMap<>();
+
+    /**
+     * Records {@code person} as an owner of its phone number.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        Phone phone = person.getPhone();
+        if (firstOwners.putIfAbsent(phone, person) != null) {
+            otherOwners.computeIfAbsent(phone, unused -> new ArrayList<>(1)).add(person);
+        }
+    }
+
+    /**
+     * Removes {@code person} as an owner of its phone number.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        Phone phone = person.getPhone();
+        List<Person> others = otherOwners.get(phone);
+        if (person.equals(firstOwners.get(phone))) {
+            if (others == null) {
+                firstOwners.remove(phone);
+                return;
+            }
+            firstOwners.put(phone, others.remove(others.size() - 1));
+        } else if (others != null) {
+            others.remove(person);
+        }
+        if (others != null && others.isEmpty()) {
+            otherOwners.remove(phone);
+        }
+    }
+
+    /**
+     * Returns true if any person owns {@code phone}.
+     */
+    boolean contains(Phone phone) {
+        requireNonNull(phone);
+        return firstOwners.containsKey(phone);
+    }
+
+    /**
+     * Returns true if {@code phone} is owned by any person other than {@code self}.
+     */
+    boolean isOwnedByOtherThan(Phone phone, Person self) {
+        requireNonNull(phone);
+        Person first = firstOwners.get(phone);
+        if (first == null) {
+            return false;
+        }
+        return first != self || otherOwners.containsKey(phone);
+    }
+
+    /**
+     * Replaces the index contents with the owners in {@code seniors} and {@code caregivers}.
+     */
+    void reset(Iterable<? extends Person> seniors, Iterable<? extends Person> caregivers) {
+        firstOwners.clear();
+        otherOwners.clear();
+        seniors.forEach(this::add);
+        caregivers.forEach(this::add);
+    }
+}
@@ -17,4 +17,18 @@ public interface ReadOnlyAddressBook {
 
     ObservableList<Caregiver> getCaregiverList();
 
+    /**
+     * Returns the last allocated senior id, or 0 if this address book does not keep an id sequence.
+     */
+    default int getSeniorSeq() {
+        return 0;
+    }
+
+    /**
+     * Returns the last allocated caregiver id, or 0 if this address book does not keep an id sequence.
+     */
+    default int getCaregiverSeq() {
+        return 0;
+    }
+
 }
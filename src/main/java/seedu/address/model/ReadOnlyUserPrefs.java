@@ -13,4 +13,19 @@ public interface ReadOnlyUserPrefs {
 
     Path getAddressBookFilePath();
 
+    /**
+     * Returns true if the address book file is saved without indentation and line breaks.
+     */
+    boolean isCompactDataFile();
+
+    /**
+     * Returns the format the address book data file is saved in.
+     */
+    DataFileFormat getDataFileFormat();
+
+    /**
+     * Returns true if the addresses and notes in a binary data file are only read when needed.
+     */
+    boolean isLazyLoading();
+
 }
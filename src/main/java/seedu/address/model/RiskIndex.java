@@ -0,0 +1,70 @@
+package seedu.address.model;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+
+import seedu.address.model.person.RiskLevel;
+import seedu.address.model.person.Senior;
+
+/**
+ * Buckets the seniors of an address book by the risk level of their risk tag.
+ * Seniors are unique by {@code Senior#equals(Object)} within an address book, so each bucket is a plain hash set.
+ */
+class RiskIndex {
+
+    private final Map<RiskLevel, Set<Senior>> seniorsByRisk = new EnumMap<>(RiskLevel.class);
+
+    RiskIndex() {
+        for (RiskLevel level : RiskLevel.values()) {
+            seniorsByRisk.put(level, new HashSet<>());
+        }
+    }
+
+    /**
+     * Records {@code senior} under its risk level.
+     */
+    void add(Senior senior) {
+        requireNonNull(senior);
+        seniorsByRisk.get(senior.getRiskTag().getRiskLevel()).add(senior);
+    }
+
+    /**
+     * Removes {@code senior} from under its risk level.
+     */
+    void remove(Senior senior) {
+        requireNonNull(senior);
+        seniorsByRisk.get(senior.getRiskTag().getRiskLevel()).remove(senior);
+    }
+
+    /**
+     * Returns the seniors whose risk level is any of {@code levels}.
+     */
+    Set<Senior> getSeniorsWithRisk(Set<RiskLevel> levels) {
+        requireNonNull(levels);
+        Set<Senior> matches = new HashSet<>();
+        for (RiskLevel level : levels) {
+            matches.addAll(seniorsByRisk.get(level));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the number of seniors whose risk level is {@code level}.
+     */
+    int count(RiskLevel level) {
+        requireNonNull(level);
+        return seniorsByRisk.get(level).size();
+    }
+
+    /**
+     * Replaces the index contents with the risk levels of {@code seniors}.
+     */
+    void reset(Iterable<Senior> seniors) {
+        seniorsByRisk.values().forEach(Set::clear);
+        seniors.forEach(this::add);
+    }
+}
@@ -3,6 +3,9 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.WeakInterner;
+
 /**
  * Represents a Person's address in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidAddress(String)}
@@ -17,6 +20,8 @@ public class Address {
      */
     public static final String VALIDATION_REGEX = ".*";
 
+    private static final WeakInterner<String, Address> POOL = new WeakInterner<>(Address::new);
+
     public final String value;
 
     /**
@@ -30,11 +35,22 @@ public class Address {
         value = address;
     }
 
+    /**
+     * Returns the {@code Address} for {@code address}, shared with every other person at the same address.
+     * Prefer this to the constructor when loading or parsing persons, so that repeated values take memory once.
+     *
+     * @param address A valid address.
+     */
+    public static Address of(String address) {
+        return POOL.intern(address);
+    }
+
     /**
      * Returns true if a given string is a valid address.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // Same strings as VALIDATION_REGEX, without running a regex for every address loaded or entered
+        return StringUtil.isSingleLine(test);
     }
 
     @Override
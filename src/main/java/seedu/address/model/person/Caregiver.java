@@ -1,5 +1,7 @@
 package seedu.address.model.person;
 
+import java.util.Objects;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.EditPersonDescriptor;
 
@@ -27,6 +29,18 @@ public class Caregiver extends Person {
         this.caregiverId = caregiverId;
     }
 
+    /**
+     * Instantiates a caregiver whose address and note are loaded by {@code detailsLoader} when needed.
+     *
+     * @param detailsKey what {@code detailsLoader} needs to find the caregiver's address and note
+     * @see #Caregiver(Name, Phone, Address, Note, Integer, boolean)
+     */
+    public Caregiver(Name name, Phone phone, PersonDetailsLoader detailsLoader, long detailsKey,
+                     Integer caregiverId, boolean pinned) {
+        super(name, phone, detailsLoader, detailsKey, pinned);
+        this.caregiverId = caregiverId;
+    }
+
     /**
      * Immutable factory: return a new Caregiver with the given id.
      */
@@ -79,6 +93,16 @@ public class Caregiver extends Person {
         );
     }
 
+    @Override
+    protected int hashOwnFields() {
+        return Objects.hashCode(caregiverId);
+    }
+
+    @Override
+    protected boolean hasSameOwnFields(Person otherPerson) {
+        return Objects.equals(caregiverId, ((Caregiver) otherPerson).caregiverId);
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(super.toString())
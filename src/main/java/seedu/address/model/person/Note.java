@@ -3,6 +3,9 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.WeakInterner;
+
 /**
  * Represents a Person's note in the address book.
  * Guarantees: immutable; is valid as declared in {@link #isValidNote(String)}
@@ -13,6 +16,8 @@ public class Note {
             "Notes should only contain alphanumeric characters and spaces";
     public static final String VALIDATION_REGEX = ".*";
 
+    private static final WeakInterner<String, Note> POOL = new WeakInterner<>(Note::new);
+
     public final String value;
 
     /**
@@ -26,11 +31,22 @@ public class Note {
         value = note;
     }
 
+    /**
+     * Returns the {@code Note} for {@code note}, shared with every other person with the same note.
+     * Prefer this to the constructor when loading or parsing persons, so that repeated values take memory once.
+     *
+     * @param note A valid note.
+     */
+    public static Note of(String note) {
+        return POOL.intern(note);
+    }
+
     /**
      * Returns true if a given string is a valid note.
      */
     public static boolean isValidNote(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // Same strings as VALIDATION_REGEX, without running a regex for every note loaded or entered
+        return StringUtil.isSingleLine(test);
     }
 
 
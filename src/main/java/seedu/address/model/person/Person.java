@@ -17,11 +17,17 @@ public abstract class Person {
     private final Name name;
     private final Phone phone;
 
-    // General data fields
-    private final Address address;
-    private final Note note;
+    // General data fields, or where to load the address and note from when they are first needed; once loaded they
+    // are kept, so comparing, printing or saving the person does not read them from storage again
+    private Address address;
+    private Note note;
+    private final PersonDetailsLoader detailsLoader;
+    private final long detailsKey;
     private final boolean isPinned;
 
+    // Hash of every stored field, worked out when first asked for; 0 until then
+    private int fingerprint;
+
     /**
      * Initializes Person fields with all required person attributes.
      * Fields must be present and not null.
@@ -38,6 +44,25 @@ public abstract class Person {
         this.phone = phone;
         this.address = address;
         this.note = note;
+        this.detailsLoader = null;
+        this.detailsKey = 0;
+        this.isPinned = isPinned;
+    }
+
+    /**
+     * Initializes Person fields, leaving the address and note to be loaded by {@code detailsLoader} when they are
+     * first needed.
+     *
+     * @param detailsKey what {@code detailsLoader} needs to find this person's address and note
+     */
+    protected Person(Name name, Phone phone, PersonDetailsLoader detailsLoader, long detailsKey, boolean isPinned) {
+        requireAllNonNull(name, phone, detailsLoader);
+        this.name = name;
+        this.phone = phone;
+        this.address = null;
+        this.note = null;
+        this.detailsLoader = detailsLoader;
+        this.detailsKey = detailsKey;
         this.isPinned = isPinned;
     }
 
@@ -50,11 +75,22 @@ public abstract class Person {
     }
 
     public Address getAddress() {
-        return address;
+        Address result = address;
+        if (result == null && detailsLoader != null) {
+            // Addresses are immutable, so a racing thread at worst loads the same address again
+            result = detailsLoader.loadAddress(detailsKey);
+            address = result;
+        }
+        return result;
     }
 
     public Note getNote() {
-        return note;
+        Note result = note;
+        if (result == null && detailsLoader != null) {
+            result = detailsLoader.loadNote(detailsKey);
+            note = result;
+        }
+        return result;
     }
 
     public boolean getPinned() {
@@ -90,10 +126,52 @@ public abstract class Person {
         Person otherPerson = (Person) other;
         return name.equals(otherPerson.name)
                 && phone.equals(otherPerson.phone)
-                && address.equals(otherPerson.address)
-                && note.equals(otherPerson.note);
+                && getAddress().equals(otherPerson.getAddress())
+                && getNote().equals(otherPerson.getNote());
+    }
+
+    /**
+     * Returns a hash of every stored field of this person, including those {@link #equals(Object)} leaves out.
+     * Persons are immutable, so it is worked out once and then kept.
+     */
+    public int getFingerprint() {
+        int result = fingerprint;
+        if (result == 0) {
+            result = 31 * Objects.hash(getClass(), name, phone, getAddress(), getNote(), isPinned) + hashOwnFields();
+            // 0 stands for a fingerprint not yet worked out, so it is never a fingerprint itself
+            result = result == 0 ? 1 : result;
+            fingerprint = result;
+        }
+        return result;
+    }
+
+    /**
+     * Returns true if this person and {@code otherPerson} hold the same value in every stored field.
+     * Their fingerprints are compared first, so most persons that differ are told apart without comparing fields.
+     */
+    public boolean hasSameFields(Person otherPerson) {
+        if (otherPerson == this) {
+            return true;
+        }
+        return otherPerson != null
+                && getClass() == otherPerson.getClass()
+                && getFingerprint() == otherPerson.getFingerprint()
+                && equals(otherPerson)
+                && isPinned == otherPerson.isPinned
+                && hasSameOwnFields(otherPerson);
     }
 
+    /**
+     * Returns a hash of the fields that a subclass stores on top of those of every person.
+     */
+    protected abstract int hashOwnFields();
+
+    /**
+     * Returns true if {@code otherPerson}, which is of the same class as this person, holds the same values in the
+     * fields that a subclass stores on top of those of every person.
+     */
+    protected abstract boolean hasSameOwnFields(Person otherPerson);
+
     /**
      * Creates a new edited copy of this person using the provided descriptor.
      * Implemented differently in subclasses (Senior, Caregiver).
@@ -108,7 +186,8 @@ public abstract class Person {
 
     @Override
     public int hashCode() {
-        return Objects.hash(name, phone, address, note);
+        // Equal persons are also the same person, so the identity fields are enough and the details stay unloaded
+        return Objects.hash(name, phone);
     }
 
     @Override
@@ -116,8 +195,8 @@ public abstract class Person {
         return new ToStringBuilder(this)
                 .add("name", name)
                 .add("phone", phone)
-                .add("address", address)
-                .add("note", note)
+                .add("address", getAddress())
+                .add("note", getNote())
                 .toString();
     }
 }
@@ -0,0 +1,22 @@
+package seedu.address.model.person;
+
+/**
+ * Loads the address and note of persons that were read from storage without them,
+ * so that these fields only take up memory for the persons whose details are used.
+ */
+public interface PersonDetailsLoader {
+
+    /**
+     * Returns the address of the person with the given {@code detailsKey}.
+     *
+     * @throws java.io.UncheckedIOException if the address can no longer be read from storage.
+     */
+    Address loadAddress(long detailsKey);
+
+    /**
+     * Returns the note of the person with the given {@code detailsKey}.
+     *
+     * @throws java.io.UncheckedIOException if the note can no longer be read from storage.
+     */
+    Note loadNote(long detailsKey);
+}
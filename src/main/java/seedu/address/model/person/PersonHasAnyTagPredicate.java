@@ -1,8 +1,10 @@
 package seedu.address.model.person;
 
+import java.util.EnumSet;
 import java.util.List;
 import java.util.Locale;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -12,6 +14,7 @@ import java.util.stream.Collectors;
 public class PersonHasAnyTagPredicate implements Predicate<Person> {
 
     private final List<String> targetTagsLower; // lowercased for case-insensitive compare
+    private final Set<RiskLevel> targetLevels = EnumSet.noneOf(RiskLevel.class);
 
     /**
      * Checks if the Person has ANY of the target tags (case-insensitive).
@@ -20,30 +23,21 @@ public class PersonHasAnyTagPredicate implements Predicate<Person> {
         this.targetTagsLower = targetTags.stream()
                 .map(s -> s.toLowerCase(Locale.ROOT))
                 .collect(Collectors.toList());
+        for (String targetTag : targetTags) {
+            RiskLevel level = RiskLevel.fromString(targetTag);
+            if (level != null) {
+                targetLevels.add(level);
+            }
+        }
     }
 
     @Override
     public boolean test(Person person) {
-        if (targetTagsLower.isEmpty()) {
-            return false; // fail-closed
-        }
-
         // check if the person is a senior
         if (!(person instanceof Senior)) {
             return false;
         }
-
-        Tag personTags = ((Senior) person).getRiskTag();
-        // Build a lowercased set of the person's tag names
-        String personTagLower = personTags.getTagName()
-                .toLowerCase(Locale.ROOT); // if Tag has getter, use t.getTagName()
-
-        for (String targetTag: targetTagsLower) {
-            if (targetTag.equals(personTagLower)) {
-                return true;
-            }
-        }
-        return false;
+        return targetLevels.contains(((Senior) person).getRiskTag().getRiskLevel());
     }
 
     @Override
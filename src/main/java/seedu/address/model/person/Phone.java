@@ -3,8 +3,12 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import seedu.address.commons.util.StringUtil;
+
 /**
  * Represents a Person's phone number in the address book.
+ * The digits are packed into a single {@code long} along with their count, which keeps any leading zeros, so a phone
+ * number takes no string and is compared and hashed as a primitive.
  * Guarantees: immutable; is valid as declared in {@link #isValidPhone(String)}
  */
 public class Phone {
@@ -13,7 +17,13 @@ public class Phone {
     public static final String MESSAGE_CONSTRAINTS =
             "Phone numbers should only contain numbers, and it should be between 3-15 digits long";
     public static final String VALIDATION_REGEX = "\\d{3,15}";
-    public final String value;
+    private static final int MIN_LENGTH = 3;
+    private static final int MAX_LENGTH = 15;
+    /** The digit count is kept above the number itself, which at 15 digits needs only 50 bits. */
+    private static final int LENGTH_SHIFT = 56;
+    private static final long NUMBER_MASK = (1L << LENGTH_SHIFT) - 1;
+
+    private final long packed;
 
     /**
      * Constructs a {@code Phone}.
@@ -23,19 +33,48 @@ public class Phone {
     public Phone(String phone) {
         requireNonNull(phone);
         checkArgument(isValidPhone(phone), MESSAGE_CONSTRAINTS);
-        value = phone;
+        long number = 0;
+        for (int i = 0; i < phone.length(); i++) {
+            number = number * 10 + (phone.charAt(i) - '0');
+        }
+        packed = ((long) phone.length() << LENGTH_SHIFT) | number;
     }
 
     /**
      * Returns true if a given string is a valid phone number.
      */
     public static boolean isValidPhone(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // Scans by hand for the same strings as VALIDATION_REGEX, as every phone number loaded or entered is checked
+        return test.length() >= MIN_LENGTH && test.length() <= MAX_LENGTH && StringUtil.isAsciiDigits(test);
+    }
+
+    /**
+     * Returns the number of digits in this phone number, counting leading zeros.
+     */
+    public int length() {
+        return (int) (packed >>> LENGTH_SHIFT);
     }
 
+    /**
+     * Returns the digits and digit count of this phone number packed into one {@code long}.
+     * Two phone numbers are equal exactly when their packed values are, so it can serve as a primitive hash key.
+     */
+    public long toPackedValue() {
+        return packed;
+    }
+
+    /**
+     * Returns the digits of this phone number, with any leading zeros.
+     */
     @Override
     public String toString() {
-        return value;
+        char[] digits = new char[length()];
+        long number = packed & NUMBER_MASK;
+        for (int i = digits.length - 1; i >= 0; i--) {
+            digits[i] = (char) ('0' + number % 10);
+            number /= 10;
+        }
+        return new String(digits);
     }
 
     @Override
@@ -50,12 +89,12 @@ public class Phone {
         }
 
         Phone otherPhone = (Phone) other;
-        return value.equals(otherPhone.value);
+        return packed == otherPhone.packed;
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return Long.hashCode(packed);
     }
 
 }
@@ -0,0 +1,42 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+/**
+ * The fixed set of risk levels a senior can be tagged with.
+ */
+public enum RiskLevel {
+    HR("High Risk"),
+    MR("Medium Risk"),
+    LR("Low Risk");
+
+    /** All risk levels, kept so that lookups do not copy {@link #values()} each time. */
+    private static final RiskLevel[] LEVELS = values();
+
+    private final String label;
+
+    RiskLevel(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Returns the human-readable label of this risk level, e.g. {@code "High Risk"}.
+     */
+    public String getLabel() {
+        return label;
+    }
+
+    /**
+     * Returns the risk level named by {@code text}, or null if there is none.
+     * Both the code (e.g. {@code "HR"}) and the label (e.g. {@code "High Risk"}) are accepted, ignoring case.
+     */
+    public static RiskLevel fromString(String text) {
+        requireNonNull(text);
+        for (RiskLevel level : LEVELS) {
+            if (level.name().equalsIgnoreCase(text) || level.label.equalsIgnoreCase(text)) {
+                return level;
+            }
+        }
+        return null;
+    }
+}
@@ -2,6 +2,8 @@ package seedu.address.model.person;
 
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.Objects;
+
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.commands.EditPersonDescriptor;
 
@@ -13,7 +15,7 @@ public class Senior extends Person {
     // Senior data fields
     private final Integer seniorId;
     private final Tag riskTag;
-    private Caregiver caregiver;
+    private final Integer caregiverId;
 
     /**
      * Instantiates a senior with all required and optional senior attributes
@@ -22,16 +24,31 @@ public class Senior extends Person {
      * @param address Address of the senior's home
      * @param riskTag Risk status of the senior i.e. High Risk, Medium Risk or Low Risk
      * @param note Additional caregiving notes for the senior
-     * @param caregiver Caregiver assigned to the senior
+     * @param caregiverId ID of the caregiver assigned to the senior, or null if none is assigned
      * @param seniorId ID of the senior assigned by AddressBook
      * @param pinned boolean variable for if senior is pinned
      */
     public Senior(Name name, Phone phone, Address address, Tag riskTag,
-                  Note note, Caregiver caregiver, Integer seniorId, boolean pinned) {
+                  Note note, Integer caregiverId, Integer seniorId, boolean pinned) {
         super(name, phone, address, note, pinned);
         requireAllNonNull(riskTag);
         this.riskTag = (riskTag);
-        this.caregiver = caregiver;
+        this.caregiverId = caregiverId;
+        this.seniorId = seniorId;
+    }
+
+    /**
+     * Instantiates a senior whose address and note are loaded by {@code detailsLoader} when needed.
+     *
+     * @param detailsKey what {@code detailsLoader} needs to find the senior's address and note
+     * @see #Senior(Name, Phone, Address, Tag, Note, Integer, Integer, boolean)
+     */
+    public Senior(Name name, Phone phone, PersonDetailsLoader detailsLoader, long detailsKey, Tag riskTag,
+                  Integer caregiverId, Integer seniorId, boolean pinned) {
+        super(name, phone, detailsLoader, detailsKey, pinned);
+        requireAllNonNull(riskTag);
+        this.riskTag = riskTag;
+        this.caregiverId = caregiverId;
         this.seniorId = seniorId;
     }
 
@@ -40,15 +57,16 @@ public class Senior extends Person {
      */
     public Senior withId(int id) {
         return new Senior(getName(), getPhone(), getAddress(), getRiskTag(),
-                getNote(), caregiver, Integer.valueOf(id), getPinned());
+                getNote(), caregiverId, Integer.valueOf(id), getPinned());
     }
 
     /**
-     * Immutable factory: return a new Senior with the given caregiver.
+     * Immutable factory: return a new Senior assigned to the caregiver with the given id,
+     * or to no caregiver if {@code caregiverId} is null.
      */
-    public Senior withCaregiver(Caregiver caregiver) {
+    public Senior withCaregiverId(Integer caregiverId) {
         return new Senior(getName(), getPhone(), getAddress(), getRiskTag(),
-                getNote(), caregiver, getId(), getPinned());
+                getNote(), caregiverId, getId(), getPinned());
     }
 
     /**
@@ -59,23 +77,12 @@ public class Senior extends Person {
         return riskTag;
     }
 
-    /**
-     * Returns the caregiver assigned to this senior.
-     * Returns null if no caregiver is assigned.
-     */
-    public Caregiver getCaregiver() {
-        return caregiver;
-    }
-
     /**
      * Returns the caregiver's id assigned to this senior.
      * Returns null if no caregiver is assigned.
      */
     public Integer getCaregiverId() {
-        if (caregiver == null) {
-            return null;
-        }
-        return caregiver.getId();
+        return caregiverId;
     }
 
     /**
@@ -86,19 +93,11 @@ public class Senior extends Person {
         return seniorId;
     }
 
-    /**
-     * Returns the caregiver assigned to this senior.
-     * Returns null if no caregiver is assigned.
-     */
-    public void setCaregiver(Caregiver cgr) {
-        caregiver = cgr;
-    }
-
     /**
      * Returns true if this senior has a caregiver assigned.
      */
     public boolean hasCaregiver() {
-        return caregiver != null;
+        return caregiverId != null;
     }
 
     /**
@@ -108,7 +107,7 @@ public class Senior extends Person {
      */
     public Senior withPinned(boolean value) {
         return new Senior(getName(), getPhone(), getAddress(),
-                getRiskTag(), getNote(), getCaregiver(), getId(), value);
+                getRiskTag(), getNote(), caregiverId, getId(), value);
     }
 
     /**
@@ -118,7 +117,7 @@ public class Senior extends Person {
      */
     public Senior withNote(Note newNote) {
         return new Senior(getName(), getPhone(), getAddress(),
-                getRiskTag(), newNote, getCaregiver(), getId(), getPinned());
+                getRiskTag(), newNote, caregiverId, getId(), getPinned());
     }
 
     /**
@@ -135,17 +134,30 @@ public class Senior extends Person {
                 descriptor.getAddress().orElse(getAddress()),
                 descriptor.getRiskTags().orElse(getRiskTag()),
                 descriptor.getNote().orElse(getNote()),
-                descriptor.getCaregiver().orElse(getCaregiver()),
+                descriptor.getCaregiverId().orElse(caregiverId),
                 getId(),
                 descriptor.getPinned().orElse(getPinned())
         );
     }
 
+    @Override
+    protected int hashOwnFields() {
+        return Objects.hash(seniorId, riskTag, caregiverId);
+    }
+
+    @Override
+    protected boolean hasSameOwnFields(Person otherPerson) {
+        Senior otherSenior = (Senior) otherPerson;
+        return Objects.equals(seniorId, otherSenior.seniorId)
+                && riskTag.equals(otherSenior.riskTag)
+                && Objects.equals(caregiverId, otherSenior.caregiverId);
+    }
+
     @Override
     public String toString() {
         return new ToStringBuilder(super.toString())
                 .add("riskTags", riskTag)
-                .add("caregiver", caregiver != null ? caregiver.getName() : "No caregiver")
+                .add("caregiverId", caregiverId != null ? caregiverId : "No caregiver")
                 .add("seniorId", seniorId)
                 .toString();
     }
@@ -10,30 +10,63 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
 public class Tag {
 
     public static final String MESSAGE_CONSTRAINTS = "Valid risk tags: High Risk, Medium Risk, Low Risk";
-    public static final String VALIDATION_REGEX = "(?i)^(?:high risk|medium risk|low risk|hr|mr|lr)$";
 
+    /** The canonical code of the risk level, i.e. HR, MR or LR. */
     public final String tagName;
 
+    /** The tag of each risk level, by ordinal, shared by every senior at that level. */
+    private static final Tag[] TAGS = createTags();
+
+    private final RiskLevel riskLevel;
+
     /**
      * Constructs a {@code Tag}.
+     * The tag name is normalized to the code of its risk level, so {@code "high risk"} becomes {@code "HR"}.
      *
      * @param tagName A valid tag name.
      */
     public Tag(String tagName) {
         requireNonNull(tagName);
-        checkArgument(isValidTagName(tagName), MESSAGE_CONSTRAINTS);
-        this.tagName = tagName;
+        this.riskLevel = RiskLevel.fromString(tagName);
+        checkArgument(riskLevel != null, MESSAGE_CONSTRAINTS);
+        this.tagName = riskLevel.name();
+    }
+
+    /**
+     * Returns the {@code Tag} named by {@code tagName}, shared with every other senior at the same risk level.
+     * Prefer this to the constructor when loading or parsing persons, as there are only as many tags as risk levels.
+     *
+     * @param tagName A valid tag name.
+     */
+    public static Tag of(String tagName) {
+        requireNonNull(tagName);
+        RiskLevel riskLevel = RiskLevel.fromString(tagName);
+        checkArgument(riskLevel != null, MESSAGE_CONSTRAINTS);
+        return TAGS[riskLevel.ordinal()];
+    }
+
+    private static Tag[] createTags() {
+        RiskLevel[] levels = RiskLevel.values();
+        Tag[] tags = new Tag[levels.length];
+        for (RiskLevel level : levels) {
+            tags[level.ordinal()] = new Tag(level.name());
+        }
+        return tags;
     }
 
     public String getTagName() {
         return tagName;
     }
 
+    public RiskLevel getRiskLevel() {
+        return riskLevel;
+    }
+
     /**
      * Returns true if a given string is a valid tag name.
      */
     public static boolean isValidTagName(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return RiskLevel.fromString(test) != null;
     }
 
     @Override
@@ -48,12 +81,12 @@ public class Tag {
         }
 
         Tag otherTag = (Tag) other;
-        return tagName.equals(otherTag.tagName);
+        return riskLevel == otherTag.riskLevel;
     }
 
     @Override
     public int hashCode() {
-        return tagName.hashCode();
+        return riskLevel.hashCode();
     }
 
     /**
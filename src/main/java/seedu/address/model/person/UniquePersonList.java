@@ -3,11 +3,17 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.commons.util.IntHashMap;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
 
@@ -20,6 +26,14 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Persons are also indexed by their id so that {@link #getById(int)} runs in constant time. When several persons
+ * share an id, the index resolves to the first of them in list order, as a linear scan would. Such shared ids are
+ * counted separately, so only removing a holder of a shared id needs a scan of the list.
+ * A second hash index on the (name, phone) identity used by {@code Person#isSamePerson(Person)}, together with the
+ * position of each person in the list, makes {@link #contains(Person)}, {@link #add(Person)} and
+ * {@link #setPerson(Person, Person)} constant time. {@link #remove(Person)} finds its target the same way, and only
+ * renumbers the persons after it, which the list moves down anyway.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList<T extends Person> implements Iterable<T> {
@@ -27,13 +41,19 @@ public class UniquePersonList<T extends Person> implements Iterable<T> {
     private final ObservableList<T> internalList = FXCollections.observableArrayList();
     private final ObservableList<T> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    private final IntHashMap<T> idIndex = new IntHashMap<>();
+    /** Number of holders of each id held by more than one person. Ids held by one person have no entry. */
+    private final IntHashMap<Integer> sharedIdCounts = new IntHashMap<>();
+    private final Map<Identity, T> identityIndex = new HashMap<>();
+    /** Position of each person in the list, by reference. */
+    private final Map<T, Integer> positions = new IdentityHashMap<>();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.containsKey(Identity.of(toCheck));
     }
 
     /**
@@ -45,7 +65,17 @@ public class UniquePersonList<T extends Person> implements Iterable<T> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        positions.put(toAdd, internalList.size());
         internalList.add(toAdd);
+        identityIndex.put(Identity.of(toAdd), toAdd);
+        index(toAdd);
+    }
+
+    /**
+     * Returns the person with the given {@code id}, or null if there is none.
+     */
+    public T getById(int id) {
+        return idIndex.get(id);
     }
 
     /**
@@ -56,7 +86,7 @@ public class UniquePersonList<T extends Person> implements Iterable<T> {
     public void setPerson(T target, T editedPerson) {
         requireAllNonNull(target, editedPerson);
 
-        int index = internalList.indexOf(target);
+        int index = indexOf(target);
         if (index == -1) {
             throw new PersonNotFoundException();
         }
@@ -65,7 +95,21 @@ public class UniquePersonList<T extends Person> implements Iterable<T> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        T replaced = internalList.set(index, editedPerson);
+        positions.remove(replaced);
+        positions.put(editedPerson, index);
+        identityIndex.remove(Identity.of(replaced));
+        identityIndex.put(Identity.of(editedPerson), editedPerson);
+        Integer id = editedPerson.getId();
+        if (id != null && id.equals(replaced.getId()) && idIndex.get(id) == replaced) {
+            idIndex.put(id, editedPerson);
+            return;
+        }
+        unindex(replaced);
+        index(editedPerson);
+        if (id != null && sharedIdCounts.containsKey(id) && positions.get(idIndex.get(id)) > index) {
+            idIndex.put(id, editedPerson);
+        }
     }
 
     /**
@@ -74,14 +118,23 @@ public class UniquePersonList<T extends Person> implements Iterable<T> {
      */
     public void remove(T toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        T removed = internalList.remove(index);
+        positions.remove(removed);
+        for (int i = index; i < internalList.size(); i++) {
+            positions.put(internalList.get(i), i);
+        }
+        identityIndex.remove(Identity.of(removed));
+        unindex(removed);
     }
 
     public void setPersons(UniquePersonList<T> replacement) {
         requireNonNull(replacement);
         internalList.setAll(replacement.internalList);
+        rebuildIndexes();
     }
 
     /**
@@ -95,6 +148,7 @@ public class UniquePersonList<T extends Person> implements Iterable<T> {
         }
 
         internalList.setAll(persons);
+        rebuildIndexes();
     }
 
     /**
@@ -135,17 +189,96 @@ public class UniquePersonList<T extends Person> implements Iterable<T> {
         return internalList.toString();
     }
 
+    /**
+     * Returns the position of the person equal to {@code person}, or -1 if there is none.
+     * Equal persons have the same identity, so the only candidate is the person indexed under that identity.
+     */
+    private int indexOf(Person person) {
+        T candidate = identityIndex.get(Identity.of(person));
+        return candidate != null && candidate.equals(person) ? positions.get(candidate) : -1;
+    }
+
+    /**
+     * Adds {@code added} to the id index, unless an earlier person already holds its id, in which case the id is
+     * counted as shared. The caller re-points the index if {@code added} does not go at the end of the list.
+     */
+    private void index(T added) {
+        Integer id = added.getId();
+        if (id == null) {
+            return;
+        }
+        if (!idIndex.containsKey(id)) {
+            idIndex.put(id, added);
+            return;
+        }
+        Integer count = sharedIdCounts.get(id);
+        sharedIdCounts.put(id, count == null ? 2 : count + 1);
+    }
+
+    /**
+     * Drops {@code removed} from the id index. If its id is shared and {@code removed} was the indexed person,
+     * the index falls back to the next person in the list holding that id.
+     */
+    private void unindex(T removed) {
+        Integer id = removed.getId();
+        if (id == null) {
+            return;
+        }
+        Integer count = sharedIdCounts.get(id);
+        if (count == null) {
+            if (idIndex.get(id) == removed) {
+                idIndex.remove(id);
+            }
+            return;
+        }
+        if (count == 2) {
+            sharedIdCounts.remove(id);
+        } else {
+            sharedIdCounts.put(id, count - 1);
+        }
+        if (idIndex.get(id) != removed) {
+            return;
+        }
+        for (T person : internalList) {
+            if (id.equals(person.getId())) {
+                idIndex.put(id, person);
+                return;
+            }
+        }
+    }
+
+    private void rebuildIndexes() {
+        idIndex.clear();
+        sharedIdCounts.clear();
+        identityIndex.clear();
+        positions.clear();
+        for (int i = 0; i < internalList.size(); i++) {
+            T person = internalList.get(i);
+            identityIndex.put(Identity.of(person), person);
+            positions.put(person, i);
+            index(person);
+        }
+    }
+
     /**
      * Returns true if {@code persons} contains only unique persons.
      */
     private boolean personsAreUnique(List<T> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+        Set<Identity> seen = new HashSet<>(persons.size() * 2);
+        for (T person : persons) {
+            if (!seen.add(Identity.of(person))) {
+                return false;
             }
         }
         return true;
     }
+
+    /**
+     * Hash key for the identity fields compared by {@code Person#isSamePerson(Person)}.
+     */
+    private record Identity(Name name, Phone phone) {
+        static Identity of(Person person) {
+            return new Identity(person.getName(), person.getPhone());
+        }
+    }
 }
@@ -15,25 +15,25 @@ import seedu.address.model.person.Tag;
  */
 public class SampleDataUtil {
 
+    private static final Caregiver CAREGIVER_TAN = new Caregiver(new Name("John Tan"), new Phone("90000001"),
+            new Address("Blk 10 Jurong West St 65 #07-21"),
+            new Note("Experienced with dementia care"), 1, false);
+    private static final Caregiver CAREGIVER_MEIHUI = new Caregiver(new Name("Mei Hui"), new Phone("90000002"),
+            new Address("Blk 620 Punggol Field Walk #08-23"),
+            new Note("Bilingual (EN/MS)"), 2, false);
     private static final Senior SENIOR_LIM = new Senior(new Name("Lim Ah Kow"), new Phone("91234567"),
             new Address("Blk 123 Bedok North Rd #02-45"),
-            new Tag("HR"), new Note("Has dementia"), null, 1, false);
+            new Tag("HR"), new Note("Has dementia"), CAREGIVER_MEIHUI.getId(), 1, false);
     private static final Senior SENIOR_TAN = new Senior(new Name("Mdm Tan"), new Phone("98887766"),
             new Address("Blk 88 Hougang Ave 7 #05-12"),
             new Tag("MR"), new Note("Lives alone"), null, 2, false);
     private static final Senior SENIOR_ONG = new Senior(new Name("Ong Siew Ling"), new Phone("97776655"),
             new Address("Blk 321 Clementi Ave 5 #03-09"),
-            new Tag("LR"), new Note(""), null, 3, false);
+            new Tag("LR"), new Note(""), CAREGIVER_TAN.getId(), 3, false);
     private static final Senior SENIOR_SITI = new Senior(new Name("Siti Nurhaliza"), new Phone("93330011"),
             new Address("Blk 20 Toa Payoh Lor 7 #09-10"),
             new Tag("HR"), new Note("Fall risk"), null, 4, false);
 
-    private static final Caregiver CAREGIVER_TAN = new Caregiver(new Name("John Tan"), new Phone("90000001"),
-            new Address("Blk 10 Jurong West St 65 #07-21"),
-            new Note("Experienced with dementia care"), 1, false);
-    private static final Caregiver CAREGIVER_MEIHUI = new Caregiver(new Name("Mei Hui"), new Phone("90000002"),
-            new Address("Blk 620 Punggol Field Walk #08-23"),
-            new Note("Bilingual (EN/MS)"), 2, false);
     private static final Senior SENIOR_CHONG = new Senior(new Name("Chong Wei Ming"), new Phone("93211211"),
             new Address("Blk 70 Bukit Batok West Ave 8 #03-11"),
             new Tag("LR"), new Note("Mild arthritis"), null, 6, false);
@@ -53,9 +53,6 @@ public class SampleDataUtil {
      * Sample seniors with REQUIRED risk tags (HR/MR/LR).
      */
     public static Senior[] getSampleSeniors() {
-        SENIOR_ONG.setCaregiver(CAREGIVER_TAN);
-        SENIOR_LIM.setCaregiver(CAREGIVER_MEIHUI);
-
         return new Senior[]{
             SENIOR_LIM, SENIOR_TAN, SENIOR_ONG, SENIOR_SITI,
             SENIOR_PINNED, SENIOR_CHONG
@@ -83,9 +80,6 @@ public class SampleDataUtil {
             ab.addSenior(s);
         }
 
-        // IMPORTANT: set the next caregiver id AFTER the highest c<number> present
-        ab.recomputeSeqFromData();
-
         return ab;
     }
 }
@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.Collection;
+import java.util.Optional;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Converts address book data files between storage formats, e.g. from JSON to binary and back.
+ * Every format keeps the persons in order along with the id sequences, so a conversion loses nothing.
+ */
+public class AddressBookFileConverter {
+
+    private AddressBookFileConverter() {}
+
+    /**
+     * Copies the address book in {@code source} into {@code target}, replacing the data in {@code target}.
+     *
+     * @return false, with nothing written, if {@code source} has no data file.
+     * @throws DataLoadingException if the data in {@code source} could not be loaded.
+     * @throws IOException if there was any problem writing to {@code target}.
+     */
+    public static boolean convert(AddressBookStorage source, AddressBookStorage target)
+            throws DataLoadingException, IOException {
+        requireNonNull(source);
+        requireNonNull(target);
+        Optional<ReadOnlyAddressBook> addressBook = source.readAddressBook();
+        if (addressBook.isEmpty()) {
+            return false;
+        }
+        target.saveAddressBook(addressBook.get());
+        target.compactAddressBook();
+        return true;
+    }
+
+    /**
+     * Copies the address book in {@code source} into {@code target} if the data file of {@code source} was changed
+     * more recently than that of {@code target}, e.g. because the app last ran with the format of {@code source}.
+     *
+     * @return true if the address book was copied.
+     * @see #convert(AddressBookStorage, AddressBookStorage)
+     */
+    public static boolean convertIfNewer(AddressBookStorage source, AddressBookStorage target)
+            throws DataLoadingException, IOException {
+        Optional<FileTime> sourceTime = getLastModifiedTime(source.getAddressBookFilePath());
+        Optional<FileTime> targetTime = getLastModifiedTime(target.getAddressBookFilePath());
+        if (sourceTime.isEmpty() || (targetTime.isPresent() && sourceTime.get().compareTo(targetTime.get()) <= 0)) {
+            return false;
+        }
+        return convert(source, target);
+    }
+
+    /**
+     * Copies the address book from whichever of {@code sources} was changed most recently into {@code target},
+     * if that source was also changed more recently than {@code target}.
+     *
+     * @return the source the address book was copied from, if any.
+     * @see #convertIfNewer(AddressBookStorage, AddressBookStorage)
+     */
+    public static Optional<AddressBookStorage> convertFromNewest(Collection<AddressBookStorage> sources,
+            AddressBookStorage target) throws DataLoadingException, IOException {
+        AddressBookStorage newest = null;
+        FileTime newestTime = null;
+        for (AddressBookStorage source : sources) {
+            Optional<FileTime> sourceTime = getLastModifiedTime(source.getAddressBookFilePath());
+            if (sourceTime.isPresent() && (newestTime == null || sourceTime.get().compareTo(newestTime) > 0)) {
+                newest = source;
+                newestTime = sourceTime.get();
+            }
+        }
+        return newest != null && convertIfNewer(newest, target) ? Optional.of(newest) : Optional.empty();
+    }
+
+    /**
+     * Returns when the data file at {@code filePath}, or the journal kept beside it, was last changed.
+     */
+    private static Optional<FileTime> getLastModifiedTime(Path filePath) throws IOException {
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        FileTime lastModified = Files.getLastModifiedTime(filePath);
+        Path journalPath = JournalingAddressBookStorage.getJournalPath(filePath);
+        if (Files.exists(journalPath)) {
+            FileTime journalLastModified = Files.getLastModifiedTime(journalPath);
+            if (journalLastModified.compareTo(lastModified) > 0) {
+                lastModified = journalLastModified;
+            }
+        }
+        return Optional.of(lastModified);
+    }
+}
@@ -0,0 +1,401 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.SerializedString;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Caregiver;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Senior;
+
+/**
+ * An append-only log of the changes made to an address book since its last snapshot, one JSON record per line.
+ * <p>
+ * The journal starts with a {@code begin} record holding its generation. Each save then appends a batch of
+ * {@code insert}, {@code set} and {@code remove} records, which address persons by their position in the senior or
+ * caregiver list, and a {@code seq} record if an id sequence moved, followed by a {@code commit} record.
+ * {@code set} and {@code remove} records also hold the name and phone of the person they replace or remove, so that
+ * replaying them onto a data file other than the one they were written against, e.g. one restored from a backup,
+ * fails rather than changing the wrong persons.
+ * A batch whose {@code commit} record is missing, e.g. because the app stopped while writing it, is ignored.
+ */
+class AddressBookJournal {
+
+    public static final String MESSAGE_JOURNAL_MISMATCH = "The journal does not match the data file.";
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final String SENIORS = "seniors";
+    private static final String CAREGIVERS = "caregivers";
+
+    private final Path path;
+    private long generation;
+    private int recordCount;
+    private long size;
+    private boolean isAppendable;
+
+    /**
+     * Creates a journal at {@code path}, which can only be appended to once it is started or replayed.
+     */
+    AddressBookJournal(Path path) {
+        this.path = requireNonNull(path);
+    }
+
+    Path getPath() {
+        return path;
+    }
+
+    long getGeneration() {
+        return generation;
+    }
+
+    int getRecordCount() {
+        return recordCount;
+    }
+
+    long getSize() {
+        return size;
+    }
+
+    /**
+     * Returns true if batches can be appended, i.e. the file ends with a complete batch of this journal.
+     */
+    boolean isAppendable() {
+        return isAppendable;
+    }
+
+    /**
+     * Replaces the journal file with an empty journal of the given {@code generation}.
+     */
+    void start(long generation) throws IOException {
+        isAppendable = false;
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        try (JsonGenerator generator = createGenerator(buffer)) {
+            generator.writeStartObject();
+            generator.writeStringField("op", "begin");
+            generator.writeNumberField("generation", generation);
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+        Files.write(path, buffer.toByteArray());
+        this.generation = generation;
+        recordCount = 0;
+        size = buffer.size();
+        isAppendable = true;
+    }
+
+    /**
+     * Appends a batch of the changes that turn {@code from} into {@code to}.
+     * Nothing is written if the two are the same.
+     *
+     * @return false, with nothing written, if the changes cannot be recorded because persons were reordered.
+     * @throws IOException if writing failed, in which case the journal can no longer be appended to.
+     */
+    boolean append(ReadOnlyAddressBook from, ReadOnlyAddressBook to) throws IOException {
+        if (!isAppendable) {
+            throw new IllegalStateException("Journal must be started or replayed before appending.");
+        }
+        ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+        int records;
+        try (JsonGenerator generator = createGenerator(buffer)) {
+            int seniorRecords = writeChanges(generator, SENIORS, from.getSeniorList(), to.getSeniorList(),
+                    JsonAddressBookWriter::writeSenior);
+            int caregiverRecords = writeChanges(generator, CAREGIVERS, from.getCaregiverList(),
+                    to.getCaregiverList(), JsonAddressBookWriter::writeCaregiver);
+            if (seniorRecords < 0 || caregiverRecords < 0) {
+                return false;
+            }
+            records = seniorRecords + caregiverRecords;
+            if (from.getSeniorSeq() != to.getSeniorSeq() || from.getCaregiverSeq() != to.getCaregiverSeq()) {
+                generator.writeStartObject();
+                generator.writeStringField("op", "seq");
+                generator.writeNumberField("seniorSeq", to.getSeniorSeq());
+                generator.writeNumberField("caregiverSeq", to.getCaregiverSeq());
+                generator.writeEndObject();
+                records++;
+            }
+            if (records == 0) {
+                return true;
+            }
+            generator.writeStartObject();
+            generator.writeStringField("op", "commit");
+            generator.writeEndObject();
+            generator.writeRaw('\n');
+        }
+
+        isAppendable = false;
+        Files.write(path, buffer.toByteArray(), StandardOpenOption.APPEND);
+        isAppendable = true;
+        recordCount += records;
+        size += buffer.size();
+        return true;
+    }
+
+    /**
+     * Writes the records that turn {@code from} into {@code to}.
+     *
+     * @return the number of records written, or -1, with nothing written, if persons were reordered.
+     */
+    private static <T extends Person> int writeChanges(JsonGenerator generator, String list, List<T> from,
+            List<T> to, PersonWriter<T> personWriter) throws IOException {
+        List<PersonListDiff.Change<T>> changes = PersonListDiff.diff(from, to);
+        if (changes == null) {
+            return -1;
+        }
+        for (PersonListDiff.Change<T> change : changes) {
+            String op = change.kind().name().toLowerCase(Locale.ROOT);
+            writeRecord(generator, op, list, change, personWriter);
+        }
+        return changes.size();
+    }
+
+    private static <T extends Person> void writeRecord(JsonGenerator generator, String op, String list,
+            PersonListDiff.Change<T> change, PersonWriter<T> personWriter) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("op", op);
+        generator.writeStringField("list", list);
+        generator.writeNumberField("index", change.index());
+        T replaced = change.replaced();
+        if (replaced != null) {
+            generator.writeStringField("targetName", replaced.getName().fullName);
+            generator.writeStringField("targetPhone", replaced.getPhone().toString());
+        }
+        T person = change.person();
+        if (person != null) {
+            generator.writeFieldName("person");
+            personWriter.write(generator, person);
+        }
+        generator.writeEndObject();
+    }
+
+    /**
+     * Returns {@code base} with the committed batches of this journal applied, unless the journal is older than
+     * {@code snapshotGeneration}, i.e. already part of the snapshot {@code base} was read from.
+     * Afterwards the journal can be appended to only if its file ended with a complete batch.
+     *
+     * @throws IOException if the journal file cannot be read.
+     * @throws IllegalValueException if a committed record is invalid or does not fit {@code base}.
+     */
+    AddressBook replay(AddressBook base, long snapshotGeneration) throws IOException, IllegalValueException {
+        isAppendable = false;
+        generation = 0;
+        recordCount = 0;
+        if (!Files.exists(path)) {
+            return base;
+        }
+
+        List<Senior> seniors = new ArrayList<>(base.getSeniorList());
+        List<Caregiver> caregivers = new ArrayList<>(base.getCaregiverList());
+        int[] seqs = {base.getSeniorSeq(), base.getCaregiverSeq()};
+        boolean isComplete = true;
+        try (InputStream in = Files.newInputStream(path); JsonParser parser = JSON_FACTORY.createParser(in)) {
+            Record begin = readRecord(parser);
+            if (begin == null || !begin.op.equals("begin")) {
+                return base;
+            }
+            generation = begin.generation;
+            if (generation <= snapshotGeneration) {
+                return base;
+            }
+
+            List<Record> batch = new ArrayList<>();
+            while (true) {
+                Record record;
+                try {
+                    record = readRecord(parser);
+                } catch (JsonParseException e) {
+                    isComplete = false;
+                    break;
+                }
+                if (record == null) {
+                    isComplete = batch.isEmpty();
+                    break;
+                }
+                if (record.op.equals("commit")) {
+                    for (Record change : batch) {
+                        apply(change, seniors, caregivers, seqs);
+                    }
+                    recordCount += batch.size();
+                    batch.clear();
+                } else {
+                    batch.add(record);
+                }
+            }
+        }
+        size = Files.size(path);
+        isAppendable = isComplete;
+        return JsonAddressBookReader.toAddressBook(caregivers, seniors, seqs[0], seqs[1]);
+    }
+
+    /**
+     * Returns the generation recorded at the start of the journal file at {@code path},
+     * or 0 if there is no readable journal there.
+     */
+    static long readGeneration(Path path) {
+        if (!Files.exists(path)) {
+            return 0;
+        }
+        try (InputStream in = Files.newInputStream(path); JsonParser parser = JSON_FACTORY.createParser(in)) {
+            Record begin = readRecord(parser);
+            return begin != null && begin.op.equals("begin") ? begin.generation : 0;
+        } catch (IOException | IllegalValueException e) {
+            return 0;
+        }
+    }
+
+    private static void apply(Record record, List<Senior> seniors, List<Caregiver> caregivers, int[] seqs)
+            throws IllegalValueException {
+        switch (record.op) {
+        case "seq":
+            if (record.seniorSeq == null || record.caregiverSeq == null) {
+                throw new IllegalValueException(MESSAGE_JOURNAL_MISMATCH);
+            }
+            seqs[0] = record.seniorSeq;
+            seqs[1] = record.caregiverSeq;
+            break;
+        case "insert":
+        case "set":
+        case "remove":
+            if (SENIORS.equals(record.list)) {
+                apply(record, seniors, (Senior) record.person);
+            } else if (CAREGIVERS.equals(record.list)) {
+                apply(record, caregivers, (Caregiver) record.person);
+            } else {
+                throw new IllegalValueException(MESSAGE_JOURNAL_MISMATCH);
+            }
+            break;
+        default:
+            throw new IllegalValueException(MESSAGE_JOURNAL_MISMATCH);
+        }
+    }
+
+    private static <T extends Person> void apply(Record record, List<T> list, T person)
+            throws IllegalValueException {
+        boolean isInsert = record.op.equals("insert");
+        int maxIndex = isInsert ? list.size() : list.size() - 1;
+        if (record.index == null || record.index < 0 || record.index > maxIndex
+                || (person == null && !record.op.equals("remove"))
+                || (!isInsert && !isTarget(record, list.get(record.index)))) {
+            throw new IllegalValueException(MESSAGE_JOURNAL_MISMATCH);
+        }
+        if (isInsert) {
+            list.add(record.index, person);
+        } else if (record.op.equals("set")) {
+            list.set(record.index, person);
+        } else {
+            list.remove((int) record.index);
+        }
+    }
+
+    /**
+     * Returns true if {@code person} is the person that {@code record} was written to replace or remove.
+     */
+    private static boolean isTarget(Record record, Person person) {
+        return person.getName().fullName.equals(record.targetName)
+                && person.getPhone().toString().equals(record.targetPhone);
+    }
+
+    /**
+     * Reads the next record, or returns null at the end of the file.
+     * The {@code list} field of a record must come before its {@code person} field.
+     *
+     * @throws JsonParseException if the record is incomplete or not well-formed.
+     */
+    private static Record readRecord(JsonParser parser) throws IOException, IllegalValueException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            return null;
+        }
+        JsonAddressBookReader.expect(parser, token, JsonToken.START_OBJECT);
+        Record record = new Record();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            switch (field) {
+            case "op":
+                record.op = parser.getText();
+                break;
+            case "list":
+                record.list = parser.getText();
+                break;
+            case "index":
+                record.index = JsonAddressBookReader.readInteger(parser);
+                break;
+            case "targetName":
+                record.targetName = parser.getText();
+                break;
+            case "targetPhone":
+                record.targetPhone = parser.getText();
+                break;
+            case "generation":
+                JsonAddressBookReader.expect(parser, value, JsonToken.VALUE_NUMBER_INT);
+                record.generation = parser.getLongValue();
+                break;
+            case "seniorSeq":
+                record.seniorSeq = JsonAddressBookReader.readInteger(parser);
+                break;
+            case "caregiverSeq":
+                record.caregiverSeq = JsonAddressBookReader.readInteger(parser);
+                break;
+            case "person":
+                record.person = SENIORS.equals(record.list)
+                        ? JsonAddressBookReader.readSenior(parser)
+                        : JsonAddressBookReader.readCaregiver(parser);
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+        if (parser.getCurrentToken() != JsonToken.END_OBJECT || record.op == null) {
+            throw new JsonParseException(parser, "Incomplete journal record");
+        }
+        return record;
+    }
+
+    private static JsonGenerator createGenerator(ByteArrayOutputStream buffer) throws IOException {
+        JsonGenerator generator = JSON_FACTORY.createGenerator(buffer, JsonEncoding.UTF8);
+        generator.setRootValueSeparator(new SerializedString("\n"));
+        return generator;
+    }
+
+    /**
+     * Writes a person as a JSON object.
+     */
+    @FunctionalInterface
+    private interface PersonWriter<T extends Person> {
+        void write(JsonGenerator generator, T person) throws IOException;
+    }
+
+    /**
+     * A record read back from the journal.
+     */
+    private static class Record {
+        private String op;
+        private String list;
+        private Integer index;
+        private String targetName;
+        private String targetPhone;
+        private long generation;
+        private Integer seniorSeq;
+        private Integer caregiverSeq;
+        private Person person;
+    }
+}
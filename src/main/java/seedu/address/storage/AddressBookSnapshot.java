@@ -0,0 +1,54 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Caregiver;
+import seedu.address.model.person.Senior;
+
+/**
+ * An immutable copy of the contents of an address book, taken so that it can be written out on another thread.
+ * Persons are immutable, so copying the person lists and id sequences is enough to fix the contents.
+ */
+class AddressBookSnapshot implements ReadOnlyAddressBook {
+
+    private final ObservableList<Senior> seniors;
+    private final ObservableList<Caregiver> caregivers;
+    private final int seniorSeq;
+    private final int caregiverSeq;
+
+    /**
+     * Creates a snapshot of the current contents of {@code source}.
+     */
+    AddressBookSnapshot(ReadOnlyAddressBook source) {
+        requireNonNull(source);
+        seniors = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(source.getSeniorList()));
+        caregivers = FXCollections.unmodifiableObservableList(
+                FXCollections.observableArrayList(source.getCaregiverList()));
+        seniorSeq = source.getSeniorSeq();
+        caregiverSeq = source.getCaregiverSeq();
+    }
+
+    @Override
+    public ObservableList<Senior> getSeniorList() {
+        return seniors;
+    }
+
+    @Override
+    public ObservableList<Caregiver> getCaregiverList() {
+        return caregivers;
+    }
+
+    @Override
+    public int getSeniorSeq() {
+        return seniorSeq;
+    }
+
+    @Override
+    public int getCaregiverSeq() {
+        return caregiverSeq;
+    }
+}
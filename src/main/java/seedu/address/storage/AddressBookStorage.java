@@ -42,4 +42,11 @@ public interface AddressBookStorage {
      */
     void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException;
 
+    /**
+     * Folds any changes kept apart from the data file back into it, so that the data file alone holds all the data.
+     * Does nothing for storages that always write the whole data file.
+     * @throws IOException if there was any problem writing to the file.
+     */
+    default void compactAddressBook() throws IOException {}
+
 }
@@ -0,0 +1,446 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.construct;
+
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Caregiver;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Senior;
+import seedu.address.model.person.Tag;
+
+/**
+ * A class to access AddressBook data stored as a binary snapshot file on the hard disk.
+ * <p>
+ * The file is a fixed-size header, then one fixed-width record per senior and per caregiver, then a string table.
+ * Records refer to their text fields by index into the string table, so repeated text such as risk tags and shared
+ * addresses is stored once. Loading reads the whole file into memory in one bulk read, then reads each field at a
+ * computed offset, with no tokenizing or scanning for delimiters. All integers are big-endian.
+ * <pre>
+ * header     magic, version, seniorCount, caregiverCount, seniorSeq, caregiverSeq, stringCount,
+ *            seniorsOffset, caregiversOffset, stringsOffset                               (10 ints)
+ * senior     name, phone, address, note, riskTag (string indexes), seniorId, caregiverId, flags  (32 bytes)
+ * caregiver  name, phone, address, note (string indexes), caregiverId, flags                     (24 bytes)
+ * strings    stringCount + 1 byte offsets into the UTF-8 data that follows them, then the data
+ * </pre>
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_NOT_BINARY_FILE = "The data file is not a binary address book file.";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "The data file has unsupported format version %d.";
+    public static final String MESSAGE_CORRUPTED_FILE = "The data file is corrupted.";
+
+    static final int MAGIC = 0x4E424142; // "NBAB"
+    static final int VERSION = 1;
+
+    private static final String BINARY_EXTENSION = ".bin";
+    private static final String JSON_EXTENSION = ".json";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final int HEADER_SIZE = 10 * Integer.BYTES;
+    private static final int SENIOR_RECORD_SIZE = 32;
+    private static final int CAREGIVER_RECORD_SIZE = 24;
+    private static final int FLAG_PINNED = 1;
+    private static final int FLAG_HAS_SENIOR_ID = 1 << 1;
+    private static final int FLAG_HAS_CAREGIVER_ID = 1 << 2;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+    private final boolean isLazy;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a {@code BinaryAddressBookStorage} for the file at {@code filePath}.
+     *
+     * @param isLazy whether to leave the addresses and notes of persons in the file until they are needed,
+     *     rather than reading every person in full when the file is read.
+     */
+    public BinaryAddressBookStorage(Path filePath, boolean isLazy) {
+        this.filePath = filePath;
+        this.isLazy = isLazy;
+    }
+
+    /**
+     * Returns the path of the binary file to keep next to the JSON data file at {@code jsonFilePath},
+     * e.g. {@code data/addressbook.bin} for {@code data/addressbook.json}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        String baseName = fileName.endsWith(JSON_EXTENSION)
+                ? fileName.substring(0, fileName.length() - JSON_EXTENSION.length())
+                : fileName;
+        return jsonFilePath.resolveSibling(baseName + BINARY_EXTENSION);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Binary file " + filePath + " found.");
+
+        try {
+            return Optional.of(read(filePath, isLazy));
+        } catch (IOException ioe) {
+            logger.warning("Error reading from binary file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        FileUtil.createIfMissing(filePath);
+        write(addressBook, filePath);
+    }
+
+    /**
+     * Returns the address book stored in the binary file at {@code filePath}.
+     * If {@code isLazy}, the file is left open for its persons to load their details from, and is closed by their
+     * {@link BinaryPersonDetailsLoader} once none of them is in use any more.
+     *
+     * @param isLazy whether to leave the addresses and notes in the file, to be loaded when needed.
+     * @throws IOException if the file cannot be read.
+     * @throws IllegalValueException if the file is not a valid binary address book file.
+     */
+    static AddressBook read(Path filePath, boolean isLazy) throws IOException, IllegalValueException {
+        FileChannel channel = FileChannel.open(filePath, StandardOpenOption.READ);
+        boolean isChannelInUse = false;
+        try {
+            if (channel.size() > Integer.MAX_VALUE) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+            }
+            // Read into the heap rather than mapped, as a mapped file cannot be replaced on Windows until the mapping
+            // is collected, which would fail the next save
+            ByteBuffer buffer = ByteBuffer.allocate((int) channel.size());
+            while (buffer.hasRemaining()) {
+                if (channel.read(buffer, buffer.position()) < 0) {
+                    throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+                }
+            }
+            buffer.flip();
+            AddressBook addressBook = isLazy ? read(buffer, channel) : read(buffer, null);
+            isChannelInUse = isLazy;
+            return addressBook;
+        } catch (IndexOutOfBoundsException | BufferUnderflowException | IllegalArgumentException e) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        } finally {
+            if (!isChannelInUse) {
+                channel.close();
+            }
+        }
+    }
+
+    /**
+     * Reads the address book in {@code buffer}, leaving the addresses and notes to be loaded from {@code channel}
+     * unless it is null.
+     */
+    private static AddressBook read(ByteBuffer buffer, FileChannel channel) throws IllegalValueException {
+        if (buffer.limit() < HEADER_SIZE || buffer.getInt(0) != MAGIC) {
+            throw new IllegalValueException(MESSAGE_NOT_BINARY_FILE);
+        }
+        int version = buffer.getInt(4);
+        if (version != VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+        int seniorCount = buffer.getInt(8);
+        int caregiverCount = buffer.getInt(12);
+        int seniorSeq = buffer.getInt(16);
+        int caregiverSeq = buffer.getInt(20);
+        int stringCount = buffer.getInt(24);
+        int stringsOffset = buffer.getInt(36);
+        StringTable strings = new StringTable(buffer, stringCount, stringsOffset);
+        int seniorsOffset = buffer.getInt(28);
+        int caregiversOffset = buffer.getInt(32);
+        if (seniorCount < 0 || caregiverCount < 0) {
+            throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+        }
+        BinaryPersonDetailsLoader detailsLoader = channel == null
+                ? null
+                : new BinaryPersonDetailsLoader(channel, stringCount, stringsOffset);
+
+        // Eagerly read records are validated and converted in parallel, a chunk at a time, as they are read
+        List<Senior> seniors = new ArrayList<>(detailsLoader == null ? 0 : seniorCount);
+        RecordConverter<JsonAdaptedSenior, Senior> seniorConverter =
+                new RecordConverter<>(JsonAdaptedSenior::toModelType);
+        for (int i = 0; i < seniorCount; i++) {
+            int offset = seniorsOffset + i * SENIOR_RECORD_SIZE;
+            int flags = buffer.get(offset + 28);
+            Integer seniorId = (flags & FLAG_HAS_SENIOR_ID) != 0 ? buffer.getInt(offset + 20) : null;
+            Integer caregiverId = (flags & FLAG_HAS_CAREGIVER_ID) != 0 ? buffer.getInt(offset + 24) : null;
+            boolean isPinned = (flags & FLAG_PINNED) != 0;
+            if (detailsLoader == null) {
+                seniorConverter.add(new JsonAdaptedSenior(strings.get(buffer.getInt(offset)),
+                        strings.get(buffer.getInt(offset + 4)),
+                        strings.get(buffer.getInt(offset + 8)),
+                        strings.get(buffer.getInt(offset + 12)),
+                        strings.get(buffer.getInt(offset + 16)),
+                        seniorId, caregiverId, isPinned));
+            } else {
+                seniors.add(new Senior(toName(strings.get(buffer.getInt(offset))),
+                        toPhone(strings.get(buffer.getInt(offset + 4))),
+                        detailsLoader, toDetailsKey(strings, buffer.getInt(offset + 8), buffer.getInt(offset + 12)),
+                        construct(strings.get(buffer.getInt(offset + 16)), Tag::of,
+                                () -> new IllegalValueException(Tag.MESSAGE_CONSTRAINTS)),
+                        caregiverId, seniorId, isPinned));
+            }
+        }
+
+        if (detailsLoader == null) {
+            seniors = seniorConverter.finish();
+        }
+
+        List<Caregiver> caregivers = new ArrayList<>(detailsLoader == null ? 0 : caregiverCount);
+        RecordConverter<JsonAdaptedCaregiver, Caregiver> caregiverConverter =
+                new RecordConverter<>(JsonAdaptedCaregiver::toModelType);
+        for (int i = 0; i < caregiverCount; i++) {
+            int offset = caregiversOffset + i * CAREGIVER_RECORD_SIZE;
+            int flags = buffer.get(offset + 20);
+            Integer caregiverId = (flags & FLAG_HAS_CAREGIVER_ID) != 0 ? buffer.getInt(offset + 16) : null;
+            boolean isPinned = (flags & FLAG_PINNED) != 0;
+            if (detailsLoader == null) {
+                caregiverConverter.add(new JsonAdaptedCaregiver(strings.get(buffer.getInt(offset)),
+                        strings.get(buffer.getInt(offset + 4)),
+                        strings.get(buffer.getInt(offset + 8)),
+                        strings.get(buffer.getInt(offset + 12)),
+                        caregiverId, isPinned));
+            } else if (caregiverId == null) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+            } else {
+                caregivers.add(new Caregiver(toName(strings.get(buffer.getInt(offset))),
+                        toPhone(strings.get(buffer.getInt(offset + 4))),
+                        detailsLoader, toDetailsKey(strings, buffer.getInt(offset + 8), buffer.getInt(offset + 12)),
+                        caregiverId, isPinned));
+            }
+        }
+
+        if (detailsLoader == null) {
+            caregivers = caregiverConverter.finish();
+        }
+
+        return JsonAddressBookReader.toAddressBook(caregivers, seniors, seniorSeq, caregiverSeq);
+    }
+
+    /**
+     * Writes {@code addressBook} to the binary file at {@code filePath}, replacing its contents.
+     */
+    static void write(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        List<Senior> seniors = addressBook.getSeniorList();
+        List<Caregiver> caregivers = addressBook.getCaregiverList();
+        Map<String, Integer> stringIndexes = new LinkedHashMap<>();
+
+        ByteBuffer records = ByteBuffer.allocate(seniors.size() * SENIOR_RECORD_SIZE
+                + caregivers.size() * CAREGIVER_RECORD_SIZE);
+        for (Senior senior : seniors) {
+            records.putInt(indexOf(stringIndexes, senior.getName().fullName));
+            records.putInt(indexOf(stringIndexes, senior.getPhone().toString()));
+            records.putInt(indexOf(stringIndexes, senior.getAddress().value));
+            records.putInt(indexOf(stringIndexes, senior.getNote().value));
+            records.putInt(indexOf(stringIndexes, senior.getRiskTag().tagName));
+            putId(records, senior.getId());
+            putId(records, senior.getCaregiverId());
+            records.putInt(toFlags(senior.getPinned(), senior.getId(), senior.getCaregiverId()) << 24);
+        }
+        for (Caregiver caregiver : caregivers) {
+            records.putInt(indexOf(stringIndexes, caregiver.getName().fullName));
+            records.putInt(indexOf(stringIndexes, caregiver.getPhone().toString()));
+            records.putInt(indexOf(stringIndexes, caregiver.getAddress().value));
+            records.putInt(indexOf(stringIndexes, caregiver.getNote().value));
+            putId(records, caregiver.getId());
+            records.putInt(toFlags(caregiver.getPinned(), null, caregiver.getId()) << 24);
+        }
+
+        List<byte[]> encoded = new ArrayList<>(stringIndexes.size());
+        int stringDataSize = 0;
+        for (String string : stringIndexes.keySet()) {
+            byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+            encoded.add(bytes);
+            stringDataSize += bytes.length;
+        }
+        int seniorsOffset = HEADER_SIZE;
+        int caregiversOffset = seniorsOffset + seniors.size() * SENIOR_RECORD_SIZE;
+        int stringsOffset = caregiversOffset + caregivers.size() * CAREGIVER_RECORD_SIZE;
+        int stringOffsetsSize = (encoded.size() + 1) * Integer.BYTES;
+
+        ByteBuffer file = ByteBuffer.allocate(stringsOffset + stringOffsetsSize + stringDataSize);
+        file.putInt(MAGIC).putInt(VERSION)
+                .putInt(seniors.size()).putInt(caregivers.size())
+                .putInt(addressBook.getSeniorSeq()).putInt(addressBook.getCaregiverSeq())
+                .putInt(encoded.size())
+                .putInt(seniorsOffset).putInt(caregiversOffset).putInt(stringsOffset);
+        file.put(records.array());
+        int stringOffset = 0;
+        for (byte[] bytes : encoded) {
+            file.putInt(stringOffset);
+            stringOffset += bytes.length;
+        }
+        file.putInt(stringOffset);
+        for (byte[] bytes : encoded) {
+            file.put(bytes);
+        }
+        file.flip();
+
+        // Persons read lazily may still be reading the old file, so it is replaced rather than overwritten
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + TEMP_SUFFIX);
+        try (FileChannel channel = FileChannel.open(tempPath, StandardOpenOption.WRITE,
+                StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING)) {
+            while (file.hasRemaining()) {
+                channel.write(file);
+            }
+        }
+        Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Returns the name in {@code name}, reporting an invalid one as the eager path does rather than as a corrupted
+     * file.
+     */
+    private static Name toName(String name) throws IllegalValueException {
+        return construct(name, Name::new, () -> new IllegalValueException(Name.MESSAGE_CONSTRAINTS));
+    }
+
+    /**
+     * Returns the phone in {@code phone}, reporting an invalid one as the eager path does rather than as a corrupted
+     * file.
+     */
+    private static Phone toPhone(String phone) throws IllegalValueException {
+        return construct(phone, Phone::new, () -> new IllegalValueException(Phone.MESSAGE_CONSTRAINTS));
+    }
+
+    /**
+     * Returns the details key of a person whose address and note are the strings at the given indexes, after checking
+     * them as the eager path would, so that a person read lazily never fails to load its details later.
+     */
+    private static long toDetailsKey(StringTable strings, int addressIndex, int noteIndex)
+            throws IllegalValueException {
+        if (!Address.isValidAddress(strings.get(addressIndex))) {
+            throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
+        }
+        if (!Note.isValidNote(strings.get(noteIndex))) {
+            throw new IllegalValueException(Note.MESSAGE_CONSTRAINTS);
+        }
+        return BinaryPersonDetailsLoader.toDetailsKey(addressIndex, noteIndex);
+    }
+
+    private static int indexOf(Map<String, Integer> stringIndexes, String string) {
+        return stringIndexes.computeIfAbsent(string, unused -> stringIndexes.size());
+    }
+
+    private static void putId(ByteBuffer records, Integer id) {
+        records.putInt(id == null ? 0 : id);
+    }
+
+    private static int toFlags(boolean isPinned, Integer seniorId, Integer caregiverId) {
+        return (isPinned ? FLAG_PINNED : 0)
+                | (seniorId != null ? FLAG_HAS_SENIOR_ID : 0)
+                | (caregiverId != null ? FLAG_HAS_CAREGIVER_ID : 0);
+    }
+
+    /**
+     * The string table of a binary file read into memory. Each string is decoded on first use only,
+     * and every record that refers to it then shares the same {@code String}.
+     */
+    private static class StringTable {
+        private final ByteBuffer buffer;
+        private final int offsetsStart;
+        private final int dataStart;
+        private final String[] decoded;
+
+        /**
+         * Creates the table of the {@code count} strings at {@code offset} in {@code buffer}, checking that every
+         * string lies within the buffer, so that a later read of the table never goes out of bounds.
+         */
+        StringTable(ByteBuffer buffer, int count, int offset) throws IllegalValueException {
+            long dataStart = offset + (count + 1L) * Integer.BYTES;
+            if (count < 0 || offset < 0 || dataStart > buffer.limit()) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+            }
+            int previousEnd = 0;
+            for (int i = 0; i <= count; i++) {
+                int end = buffer.getInt(offset + i * Integer.BYTES);
+                if (end < previousEnd || dataStart + end > buffer.limit()) {
+                    throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+                }
+                previousEnd = end;
+            }
+            this.buffer = buffer;
+            offsetsStart = offset;
+            this.dataStart = (int) dataStart;
+            decoded = new String[count];
+        }
+
+        String get(int index) throws IllegalValueException {
+            if (index < 0 || index >= decoded.length) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_FILE);
+            }
+            if (decoded[index] == null) {
+                int start = dataStart + buffer.getInt(offsetsStart + index * Integer.BYTES);
+                int end = dataStart + buffer.getInt(offsetsStart + (index + 1) * Integer.BYTES);
+                ByteBuffer bytes = buffer.duplicate();
+                bytes.limit(end).position(start);
+                decoded[index] = StandardCharsets.UTF_8.decode(bytes).toString();
+            }
+            return decoded[index];
+        }
+    }
+}
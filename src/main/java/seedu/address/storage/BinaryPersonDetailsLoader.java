@@ -0,0 +1,105 @@
+package seedu.address.storage;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.lang.ref.Cleaner;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.PersonDetailsLoader;
+
+/**
+ * Loads the addresses and notes of persons read by {@link BinaryAddressBookStorage} from the string table of the
+ * binary file, when they are first needed. Each person keeps what it loaded, so a detail is read once per person.
+ * <p>
+ * The loader owns the channel of the file, which stays open for as long as any of its persons is in use, and is closed
+ * once the loader can be collected. Saving replaces the file rather than overwriting it, so the persons keep reading
+ * the contents they were loaded from. Those contents were checked when the file was read, so a detail only fails to
+ * load, with an {@link UncheckedIOException}, if the file can no longer be read at all.
+ */
+class BinaryPersonDetailsLoader implements PersonDetailsLoader {
+
+    private static final Cleaner CLEANER = Cleaner.create();
+    private static final Logger logger = LogsCenter.getLogger(BinaryPersonDetailsLoader.class);
+
+    private final FileChannel channel;
+    private final long offsetsStart;
+    private final long dataStart;
+
+    /**
+     * Creates a loader for the string table at {@code stringsOffset} in the file open in {@code channel},
+     * which holds {@code stringCount} strings.
+     */
+    BinaryPersonDetailsLoader(FileChannel channel, int stringCount, int stringsOffset) {
+        this.channel = channel;
+        offsetsStart = stringsOffset;
+        dataStart = stringsOffset + (long) (stringCount + 1) * Integer.BYTES;
+        CLEANER.register(this, new ChannelCloser(channel));
+    }
+
+    /**
+     * Returns the details key for a person whose address and note are the strings at the given indexes.
+     */
+    static long toDetailsKey(int addressIndex, int noteIndex) {
+        return ((long) addressIndex << 32) | (noteIndex & 0xFFFFFFFFL);
+    }
+
+    @Override
+    public Address loadAddress(long detailsKey) {
+        return Address.of(readString((int) (detailsKey >>> 32)));
+    }
+
+    @Override
+    public Note loadNote(long detailsKey) {
+        return Note.of(readString((int) detailsKey));
+    }
+
+    private String readString(int index) {
+        try {
+            ByteBuffer offsets = readFully(offsetsStart + (long) index * Integer.BYTES, 2 * Integer.BYTES);
+            int start = offsets.getInt();
+            int end = offsets.getInt();
+            if (start < 0 || end < start) {
+                throw new IOException("Corrupted string table in data file");
+            }
+            return StandardCharsets.UTF_8.decode(readFully(dataStart + start, end - start)).toString();
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private ByteBuffer readFully(long position, int length) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(length);
+        while (buffer.hasRemaining()) {
+            if (channel.read(buffer, position + buffer.position()) < 0) {
+                throw new IOException("Unexpected end of data file");
+            }
+        }
+        return buffer.flip();
+    }
+
+    /**
+     * Closes the channel of a loader that is no longer reachable. It must not refer to the loader itself.
+     */
+    private static class ChannelCloser implements Runnable {
+        private final FileChannel channel;
+
+        ChannelCloser(FileChannel channel) {
+            this.channel = channel;
+        }
+
+        @Override
+        public void run() {
+            try {
+                channel.close();
+            } catch (IOException e) {
+                logger.warning("Error closing binary data file: " + e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,200 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+/**
+ * Stores AddressBook data as a JSON snapshot file plus a journal of the changes made since the snapshot,
+ * so that a save costs time in proportion to the change rather than to the whole address book.
+ * <p>
+ * The snapshot is an ordinary address book JSON file, so existing data files load as snapshots with no journal.
+ * A snapshot whose name ends with {@code .gz} is gzip-compressed; the journal beside it never is.
+ * It records the generation of the last journal folded into it, and a journal of that generation or older is
+ * ignored when reading. Once the journal grows past a size or record limit, the next save writes a new snapshot
+ * and starts a journal of the next generation. Saves run on the background save thread, so this compaction does too.
+ */
+public class JournalingAddressBookStorage implements AddressBookStorage {
+
+    static final long DEFAULT_MAX_JOURNAL_BYTES = 1 << 20;
+    static final int DEFAULT_MAX_JOURNAL_RECORDS = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalingAddressBookStorage.class);
+    private static final String JOURNAL_SUFFIX = ".journal";
+    private static final String TEMP_SUFFIX = ".tmp";
+
+    private final Path filePath;
+    private final boolean isCompact;
+    private final long maxJournalBytes;
+    private final int maxJournalRecords;
+
+    private AddressBookJournal journal;
+    /** Contents of the file at {@code filePath} together with its journal, as last read or saved. */
+    private AddressBookSnapshot saved;
+
+    /**
+     * Creates a {@code JournalingAddressBookStorage} for the snapshot file at {@code filePath}.
+     *
+     * @param isCompact whether to save snapshots without indentation and line breaks.
+     */
+    public JournalingAddressBookStorage(Path filePath, boolean isCompact) {
+        this(filePath, isCompact, DEFAULT_MAX_JOURNAL_BYTES, DEFAULT_MAX_JOURNAL_RECORDS);
+    }
+
+    JournalingAddressBookStorage(Path filePath, boolean isCompact, long maxJournalBytes, int maxJournalRecords) {
+        this.filePath = requireNonNull(filePath);
+        this.isCompact = isCompact;
+        this.maxJournalBytes = maxJournalBytes;
+        this.maxJournalRecords = maxJournalRecords;
+        journal = new AddressBookJournal(getJournalPath(filePath));
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal kept for the snapshot file at {@code filePath}.
+     */
+    static Path getJournalPath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + JOURNAL_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("JSON file " + filePath + " found.");
+
+        try {
+            long[] snapshotGeneration = new long[1];
+            AddressBook snapshot = JsonAddressBookReader.read(filePath, generation ->
+                    snapshotGeneration[0] = generation);
+            AddressBookJournal fileJournal = new AddressBookJournal(getJournalPath(filePath));
+            AddressBook addressBook = fileJournal.replay(snapshot, snapshotGeneration[0]);
+            logger.info("Replayed " + fileJournal.getRecordCount() + " journal records onto " + filePath);
+            if (filePath.equals(this.filePath)) {
+                journal = fileJournal;
+                saved = new AddressBookSnapshot(addressBook);
+            }
+            return Optional.of(addressBook);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to a path other than this storage's own writes a plain snapshot with no journal.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            FileUtil.createIfMissing(filePath);
+            JsonAddressBookWriter.write(addressBook, filePath, isCompact);
+            return;
+        }
+
+        AddressBookSnapshot current = addressBook instanceof AddressBookSnapshot
+                ? (AddressBookSnapshot) addressBook
+                : new AddressBookSnapshot(addressBook);
+        if (saved == null || !journal.isAppendable() || isJournalFull() || !appendToJournal(current)) {
+            writeSnapshot(current);
+        }
+        saved = current;
+    }
+
+    @Override
+    public synchronized void compactAddressBook() throws IOException {
+        if (saved != null && (!journal.isAppendable() || journal.getRecordCount() > 0)) {
+            writeSnapshot(saved);
+        }
+    }
+
+    /**
+     * Folds the journal beside the snapshot at {@code filePath}, if there is one, into the snapshot and deletes it,
+     * so that the snapshot holds all the data on its own, e.g. to be read as a plain JSON data file.
+     *
+     * @return true if there was a journal to fold.
+     * @throws DataLoadingException if the snapshot and journal could not be loaded, in which case both are kept.
+     * @throws IOException if there was any problem writing the snapshot or deleting the journal.
+     */
+    public static boolean foldJournal(Path filePath, boolean isCompact) throws DataLoadingException, IOException {
+        Path journalPath = getJournalPath(filePath);
+        if (!Files.exists(journalPath)) {
+            return false;
+        }
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath, isCompact);
+        if (storage.readAddressBook().isPresent()) {
+            storage.compactAddressBook();
+        }
+        Files.delete(journalPath);
+        return true;
+    }
+
+    private boolean isJournalFull() {
+        return journal.getSize() > maxJournalBytes || journal.getRecordCount() > maxJournalRecords;
+    }
+
+    private boolean appendToJournal(AddressBookSnapshot current) throws IOException {
+        try {
+            return journal.append(saved, current);
+        } catch (IOException e) {
+            // The journal may now end with part of a batch, so the next save has to write a snapshot instead
+            saved = null;
+            throw e;
+        }
+    }
+
+    /**
+     * Writes {@code addressBook} as a new snapshot and starts a new, empty journal after it.
+     * The snapshot replaces the old one in a single move, so a crash leaves either the old snapshot and journal
+     * or the new snapshot, which makes the old journal stale.
+     */
+    private void writeSnapshot(ReadOnlyAddressBook addressBook) throws IOException {
+        saved = null;
+        long generation = Math.max(journal.getGeneration(), AddressBookJournal.readGeneration(journal.getPath()));
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + TEMP_SUFFIX);
+        FileUtil.createIfMissing(tempPath);
+        JsonAddressBookWriter.writeSnapshot(addressBook, tempPath, isCompact,
+                JsonAddressBookWriter.isCompressedFile(filePath), generation);
+        Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        journal.start(generation + 1);
+        logger.fine("Wrote snapshot " + filePath + " for journal generation " + generation);
+    }
+}
@@ -1,5 +1,7 @@
 package seedu.address.storage;
 
+import static seedu.address.commons.util.AppUtil.construct;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
@@ -47,7 +49,7 @@ class JsonAdaptedCaregiver {
     /** Constructs from model. */
     public JsonAdaptedCaregiver(Person source) {
         this.name = source.getName().fullName;
-        this.phone = source.getPhone().value;
+        this.phone = source.getPhone().toString();
         this.address = source.getAddress().value;
         this.note = source.getNote().value;
         this.caregiverId = ((Caregiver) source).getId();
@@ -60,28 +62,22 @@ class JsonAdaptedCaregiver {
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
-        if (!Name.isValidName(name)) {
-            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
-        }
-        final Name modelName = new Name(name);
+        final Name modelName = construct(name, Name::new,
+                () -> new IllegalValueException(Name.MESSAGE_CONSTRAINTS));
 
         if (phone == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
         }
-        if (!Phone.isValidPhone(phone)) {
-            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
-        }
-        final Phone modelPhone = new Phone(phone);
+        final Phone modelPhone = construct(phone, Phone::new,
+                () -> new IllegalValueException(Phone.MESSAGE_CONSTRAINTS));
 
         if (address == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
         }
-        if (!Address.isValidAddress(address)) {
-            throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
-        }
-        final Address modelAddress = new Address(address);
+        final Address modelAddress = construct(address, Address::of,
+                () -> new IllegalValueException(Address.MESSAGE_CONSTRAINTS));
 
-        final Note modelNote = (note == null) ? new Note("") : new Note(note);
+        final Note modelNote = Note.of(note == null ? "" : note);
 
         if (caregiverId == null) {
             // If you keep old data around, either delete data/addressbook.json or backfill IDs before loading.
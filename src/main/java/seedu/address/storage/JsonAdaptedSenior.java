@@ -1,5 +1,7 @@
 package seedu.address.storage;
 
+import static seedu.address.commons.util.AppUtil.construct;
+
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 
@@ -57,7 +59,7 @@ class JsonAdaptedSenior {
      */
     public JsonAdaptedSenior(Senior source) {
         this.name = source.getName().fullName;
-        this.phone = source.getPhone().value;
+        this.phone = source.getPhone().toString();
         this.address = source.getAddress().value;
         this.note = source.getNote().value;
         this.riskTag = source.getRiskTag().tagName;
@@ -66,13 +68,6 @@ class JsonAdaptedSenior {
         this.pinned = source.getPinned();
     }
 
-    /**
-     * Returns the caregiver ID provided,
-     */
-    public Integer getCaregiverId() {
-        return caregiverId;
-    }
-
     /**
      * Converts this JSON-friendly object back into the model's {@code Person} subtype.
      */
@@ -81,43 +76,34 @@ class JsonAdaptedSenior {
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
-        if (!Name.isValidName(name)) {
-            throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
-        }
-        final Name modelName = new Name(name);
+        final Name modelName = construct(name, Name::new,
+                () -> new IllegalValueException(Name.MESSAGE_CONSTRAINTS));
 
         if (phone == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
         }
-        if (!Phone.isValidPhone(phone)) {
-            throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
-        }
-        final Phone modelPhone = new Phone(phone);
+        final Phone modelPhone = construct(phone, Phone::new,
+                () -> new IllegalValueException(Phone.MESSAGE_CONSTRAINTS));
 
         if (address == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
         }
-        if (!Address.isValidAddress(address)) {
-            throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
-        }
-        final Address modelAddress = new Address(address);
+        final Address modelAddress = construct(address, Address::of,
+                () -> new IllegalValueException(Address.MESSAGE_CONSTRAINTS));
 
         if (riskTag == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "riskTag"));
         }
-        if (!Tag.isValidTagName(riskTag)) {
-            throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
-        }
-
-        final Tag modelRiskTag = new Tag(riskTag);
+        final Tag modelRiskTag = construct(riskTag, Tag::of,
+                () -> new IllegalValueException(Tag.MESSAGE_CONSTRAINTS));
 
-        final Note modelNote = (note == null) ? new Note("") : new Note(note);
+        final Note modelNote = Note.of(note == null ? "" : note);
 
         if (pinned == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, "pinned"));
         }
 
-        return new Senior(modelName, modelPhone, modelAddress, modelRiskTag, modelNote, null, seniorId, pinned);
+        return new Senior(modelName, modelPhone, modelAddress, modelRiskTag, modelNote, caregiverId, seniorId, pinned);
     }
 
     @Override
@@ -0,0 +1,360 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.PushbackInputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.function.LongConsumer;
+import java.util.logging.Level;
+import java.util.logging.Logger;
+import java.util.zip.GZIPInputStream;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Caregiver;
+import seedu.address.model.person.Senior;
+
+/**
+ * Reads an address book from a JSON file with the Jackson token API. Neither the file contents nor a tree of JSON
+ * nodes is ever held in memory: parsing collects the fields of each person record and hands them, a chunk at a
+ * time, to a {@link RecordConverter} that validates and converts them into model objects in parallel while parsing
+ * goes on. Any invalid record is reported as a serial reader would, as the first invalid record in the file, ahead of
+ * any syntax error that follows it. The persons are only checked against each other for duplicates and missing
+ * caregivers once every record is valid, so an invalid record is reported even if a duplicate comes before it.
+ * Accepts the files that {@link JsonAddressBookWriter} writes, in either layout, ignoring unknown fields.
+ * A gzip-compressed file is recognised by its leading magic bytes, whatever its name, and inflated as it is parsed.
+ */
+class JsonAddressBookReader {
+
+    public static final String MESSAGE_DUPLICATE_PERSON = "Persons list contains duplicate person(s).";
+    public static final String MESSAGE_UNKNOWN_CAREGIVER = "Senior is assigned to caregiver %d, who does not exist.";
+
+    private static final Logger logger = LogsCenter.getLogger(JsonAddressBookReader.class);
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final int GZIP_MAGIC = 0x1F8B;
+
+    private JsonAddressBookReader() {}
+
+    /**
+     * Returns the address book stored in the JSON file at {@code filePath}.
+     *
+     * @throws IOException if the file cannot be read or is not well-formed JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static AddressBook read(Path filePath) throws IOException, IllegalValueException {
+        return read(filePath, generation -> { });
+    }
+
+    /**
+     * Returns the address book stored in the JSON file at {@code filePath}, passing the journal generation recorded
+     * in the file, if any, to {@code journalGenerationConsumer}.
+     *
+     * @throws IOException if the file cannot be read or is not well-formed JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     * @see JournalingAddressBookStorage
+     */
+    static AddressBook read(Path filePath, LongConsumer journalGenerationConsumer)
+            throws IOException, IllegalValueException {
+        requireNonNull(filePath);
+        // The parser reads the channel-backed stream through its own buffer, so no further buffering is needed
+        try (InputStream in = openDecompressed(Files.newInputStream(filePath));
+                JsonParser parser = JSON_FACTORY.createParser(in)) {
+            return readAddressBook(parser, journalGenerationConsumer);
+        }
+    }
+
+    /**
+     * Returns a stream of the contents of {@code in}, inflated if they start with the gzip magic bytes.
+     */
+    private static InputStream openDecompressed(InputStream in) throws IOException {
+        PushbackInputStream pushback = new PushbackInputStream(in, 2);
+        byte[] magic = pushback.readNBytes(2);
+        pushback.unread(magic);
+        boolean isCompressed = magic.length == 2 && ((magic[0] & 0xFF) << 8 | (magic[1] & 0xFF)) == GZIP_MAGIC;
+        return isCompressed
+                ? new GZIPInputStream(pushback, JsonAddressBookWriter.COMPRESSION_BUFFER_SIZE)
+                : pushback;
+    }
+
+    private static AddressBook readAddressBook(JsonParser parser, LongConsumer journalGenerationConsumer)
+            throws IOException, IllegalValueException {
+        expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+
+        RecordConverter<JsonAdaptedSenior, Senior> seniors = new RecordConverter<>(JsonAdaptedSenior::toModelType);
+        RecordConverter<JsonAdaptedCaregiver, Caregiver> caregivers =
+                new RecordConverter<>(JsonAdaptedCaregiver::toModelType);
+        boolean hasSeniors = false;
+        boolean isCaregiversFirst = false;
+        Integer seniorSeq = null;
+        Integer caregiverSeq = null;
+        try {
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                case "seniors":
+                    hasSeniors = true;
+                    readArray(parser, value, () -> seniors.add(readAdaptedSenior(parser)));
+                    break;
+                case "caregivers":
+                    isCaregiversFirst = isCaregiversFirst || !hasSeniors;
+                    readArray(parser, value, () -> caregivers.add(readAdaptedCaregiver(parser)));
+                    break;
+                case "seniorSeq":
+                    seniorSeq = readInteger(parser);
+                    break;
+                case "caregiverSeq":
+                    caregiverSeq = readInteger(parser);
+                    break;
+                case "journalGeneration":
+                    expect(parser, value, JsonToken.VALUE_NUMBER_INT);
+                    journalGenerationConsumer.accept(parser.getLongValue());
+                    break;
+                default:
+                    parser.skipChildren();
+                }
+            }
+        } catch (IOException e) {
+            // An invalid record before the syntax error is what a serial reader would have reported
+            finish(caregivers, seniors, isCaregiversFirst);
+            throw e;
+        }
+        ConvertedPersons persons = finish(caregivers, seniors, isCaregiversFirst);
+        return toAddressBook(persons.caregivers(), persons.seniors(), seniorSeq, caregiverSeq);
+    }
+
+    /**
+     * Waits for the parsed records to be converted into model persons, starting with whichever list came first in
+     * the file, so that the first invalid record in the file is the one reported.
+     */
+    private static ConvertedPersons finish(RecordConverter<JsonAdaptedCaregiver, Caregiver> caregivers,
+            RecordConverter<JsonAdaptedSenior, Senior> seniors, boolean isCaregiversFirst)
+            throws IllegalValueException {
+        if (isCaregiversFirst) {
+            List<Caregiver> convertedCaregivers = caregivers.finish();
+            return new ConvertedPersons(convertedCaregivers, seniors.finish());
+        }
+        List<Senior> convertedSeniors = seniors.finish();
+        return new ConvertedPersons(caregivers.finish(), convertedSeniors);
+    }
+
+    /**
+     * Returns an address book holding {@code caregivers} and {@code seniors}, in order, with the given id sequences.
+     * A null sequence is left at the highest id in use.
+     *
+     * @throws IllegalValueException if two persons are the same or a senior is assigned to a missing caregiver.
+     */
+    static AddressBook toAddressBook(List<Caregiver> caregivers, List<Senior> seniors, Integer seniorSeq,
+            Integer caregiverSeq) throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        // Restored before the persons are added, whose ids raise a stored sequence that is behind them.
+        // Legacy files with no sequence stored are left at the highest id in use.
+        if (seniorSeq != null) {
+            addressBook.setSeniorSeq(seniorSeq);
+        }
+        if (caregiverSeq != null) {
+            addressBook.setCaregiverSeq(caregiverSeq);
+        }
+        for (Caregiver caregiver : caregivers) {
+            if (addressBook.hasPerson(caregiver)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addCaregiver(caregiver);
+        }
+        logger.log(Level.INFO, "All caregivers from JSON records have been added");
+
+        // Seniors may come before caregivers in the file, so their caregivers can only be checked once all are read
+        for (Senior senior : seniors) {
+            if (addressBook.hasPerson(senior)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+            }
+            Integer caregiverId = senior.getCaregiverId();
+            if (caregiverId != null && addressBook.getCaregiverWithId(caregiverId) == null) {
+                throw new IllegalValueException(String.format(MESSAGE_UNKNOWN_CAREGIVER, caregiverId));
+            }
+            addressBook.addSenior(senior);
+        }
+        logger.log(Level.INFO,
+                "All seniors and their assignments to caregivers from JSON records have been added");
+        return addressBook;
+    }
+
+    /**
+     * Reads the senior record starting at the current token of {@code parser}.
+     */
+    static Senior readSenior(JsonParser parser) throws IOException, IllegalValueException {
+        return readAdaptedSenior(parser).toModelType();
+    }
+
+    /**
+     * Reads the fields of the senior record starting at the current token of {@code parser}, without validating them.
+     */
+    private static JsonAdaptedSenior readAdaptedSenior(JsonParser parser) throws IOException {
+        expect(parser, parser.getCurrentToken(), JsonToken.START_OBJECT);
+        String name = null;
+        String phone = null;
+        String address = null;
+        String note = null;
+        String riskTag = null;
+        Integer seniorId = null;
+        Integer caregiverId = null;
+        Boolean pinned = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+            case "name":
+                name = readText(parser);
+                break;
+            case "phone":
+                phone = readText(parser);
+                break;
+            case "address":
+                address = readText(parser);
+                break;
+            case "note":
+                note = readText(parser);
+                break;
+            case "riskTag":
+            case "risk":
+                riskTag = readText(parser);
+                break;
+            case "seniorId":
+                seniorId = readInteger(parser);
+                break;
+            case "caregiverId":
+                caregiverId = readInteger(parser);
+                break;
+            case "pinned":
+                pinned = readBoolean(parser);
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+        return new JsonAdaptedSenior(name, phone, address, note, riskTag, seniorId, caregiverId, pinned);
+    }
+
+    /**
+     * Reads the caregiver record starting at the current token of {@code parser}.
+     */
+    static Caregiver readCaregiver(JsonParser parser) throws IOException, IllegalValueException {
+        return readAdaptedCaregiver(parser).toModelType();
+    }
+
+    /**
+     * Reads the fields of the caregiver record starting at the current token of {@code parser},
+     * without validating them.
+     */
+    private static JsonAdaptedCaregiver readAdaptedCaregiver(JsonParser parser) throws IOException {
+        expect(parser, parser.getCurrentToken(), JsonToken.START_OBJECT);
+        String name = null;
+        String phone = null;
+        String address = null;
+        String note = null;
+        Integer caregiverId = null;
+        Boolean pinned = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String field = parser.getCurrentName();
+            parser.nextToken();
+            switch (field) {
+            case "name":
+                name = readText(parser);
+                break;
+            case "phone":
+                phone = readText(parser);
+                break;
+            case "address":
+                address = readText(parser);
+                break;
+            case "note":
+                note = readText(parser);
+                break;
+            case "caregiverId":
+                caregiverId = readInteger(parser);
+                break;
+            case "pinned":
+                pinned = readBoolean(parser);
+                break;
+            default:
+                parser.skipChildren();
+            }
+        }
+        return new JsonAdaptedCaregiver(name, phone, address, note, caregiverId, pinned);
+    }
+
+    /**
+     * Calls {@code elementReader} once per element of the array starting at {@code token}, with the parser on the
+     * first token of the element. A null array is treated as empty.
+     */
+    private static void readArray(JsonParser parser, JsonToken token, ElementReader elementReader)
+            throws IOException {
+        if (token == JsonToken.VALUE_NULL) {
+            return;
+        }
+        expect(parser, token, JsonToken.START_ARRAY);
+        while (parser.nextToken() != JsonToken.END_ARRAY) {
+            elementReader.read();
+        }
+    }
+
+    private static String readText(JsonParser parser) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!token.isScalarValue()) {
+            throw new JsonParseException(parser, "Expected a text value but found " + token);
+        }
+        return parser.getText();
+    }
+
+    static Integer readInteger(JsonParser parser) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        expect(parser, token, JsonToken.VALUE_NUMBER_INT);
+        return parser.getIntValue();
+    }
+
+    private static Boolean readBoolean(JsonParser parser) throws IOException {
+        JsonToken token = parser.getCurrentToken();
+        if (token == JsonToken.VALUE_NULL) {
+            return null;
+        }
+        if (!token.isBoolean()) {
+            throw new JsonParseException(parser, "Expected a boolean value but found " + token);
+        }
+        return parser.getBooleanValue();
+    }
+
+    static void expect(JsonParser parser, JsonToken actual, JsonToken expected) throws JsonParseException {
+        if (actual != expected) {
+            throw new JsonParseException(parser, "Expected " + expected + " but found " + actual);
+        }
+    }
+
+    /**
+     * The persons converted from the records of a file.
+     */
+    private record ConvertedPersons(List<Caregiver> caregivers, List<Senior> seniors) {}
+
+    /**
+     * Reads one element of a JSON array.
+     */
+    @FunctionalInterface
+    private interface ElementReader {
+        void read() throws IOException;
+    }
+}
@@ -0,0 +1,150 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.zip.Deflater;
+import java.util.zip.GZIPOutputStream;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Caregiver;
+import seedu.address.model.person.Senior;
+
+/**
+ * Writes an address book to a JSON file with the Jackson generator API, one person record at a time.
+ * The records go straight from the model objects to the file, with no intermediate tree or {@code String}.
+ * A file may be gzip-compressed on the way, in which case the records are deflated as they are generated.
+ * The files written are read back by {@link JsonAddressBookReader}.
+ */
+class JsonAddressBookWriter {
+
+    static final String COMPRESSED_EXTENSION = ".gz";
+    /** Size of the blocks the compressor hands to the file, so that a slow drive sees few, large writes. */
+    static final int COMPRESSION_BUFFER_SIZE = 1 << 16;
+
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private JsonAddressBookWriter() {}
+
+    /**
+     * Returns true if the file at {@code filePath} is to be written gzip-compressed, as its name ends with
+     * {@value #COMPRESSED_EXTENSION}.
+     */
+    static boolean isCompressedFile(Path filePath) {
+        return filePath.getFileName().toString().endsWith(COMPRESSED_EXTENSION);
+    }
+
+    /**
+     * Writes {@code addressBook} to the file at {@code filePath}, replacing its contents.
+     * The file is gzip-compressed if its name ends with {@value #COMPRESSED_EXTENSION}.
+     *
+     * @param isCompact whether to leave out the indentation and line breaks that make the file easy to read.
+     * @throws IOException if there was an error writing to the file.
+     */
+    static void write(ReadOnlyAddressBook addressBook, Path filePath, boolean isCompact) throws IOException {
+        write(addressBook, filePath, isCompact, isCompressedFile(filePath), null);
+    }
+
+    /**
+     * Writes {@code addressBook} to the file at {@code filePath} as a snapshot holding every journal record up to
+     * and including generation {@code journalGeneration}.
+     *
+     * @param isCompressed whether to gzip-compress the file, whatever its name.
+     * @see JournalingAddressBookStorage
+     */
+    static void writeSnapshot(ReadOnlyAddressBook addressBook, Path filePath, boolean isCompact,
+            boolean isCompressed, long journalGeneration) throws IOException {
+        write(addressBook, filePath, isCompact, isCompressed, journalGeneration);
+    }
+
+    private static void write(ReadOnlyAddressBook addressBook, Path filePath, boolean isCompact,
+            boolean isCompressed, Long journalGeneration) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+        // The generator fills its own buffer and only hands full blocks to the compressor or the file channel
+        try (OutputStream out = isCompressed
+                        ? new FastGzipOutputStream(Files.newOutputStream(filePath))
+                        : Files.newOutputStream(filePath);
+                JsonGenerator generator = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8)) {
+            if (!isCompact) {
+                generator.useDefaultPrettyPrinter();
+            }
+            generator.writeStartObject();
+
+            generator.writeArrayFieldStart("seniors");
+            for (Senior senior : addressBook.getSeniorList()) {
+                writeSenior(generator, senior);
+            }
+            generator.writeEndArray();
+
+            generator.writeArrayFieldStart("caregivers");
+            for (Caregiver caregiver : addressBook.getCaregiverList()) {
+                writeCaregiver(generator, caregiver);
+            }
+            generator.writeEndArray();
+
+            generator.writeNumberField("seniorSeq", addressBook.getSeniorSeq());
+            generator.writeNumberField("caregiverSeq", addressBook.getCaregiverSeq());
+            if (journalGeneration != null) {
+                generator.writeNumberField("journalGeneration", journalGeneration);
+            }
+            generator.writeEndObject();
+        }
+    }
+
+    /**
+     * Writes {@code senior} as a JSON object.
+     */
+    static void writeSenior(JsonGenerator generator, Senior senior) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", senior.getName().fullName);
+        generator.writeStringField("phone", senior.getPhone().toString());
+        generator.writeStringField("address", senior.getAddress().value);
+        generator.writeStringField("note", senior.getNote().value);
+        generator.writeStringField("riskTag", senior.getRiskTag().tagName);
+        generator.writeBooleanField("pinned", senior.getPinned());
+        writeIntegerField(generator, "seniorId", senior.getId());
+        writeIntegerField(generator, "caregiverId", senior.getCaregiverId());
+        generator.writeEndObject();
+    }
+
+    /**
+     * Writes {@code caregiver} as a JSON object.
+     */
+    static void writeCaregiver(JsonGenerator generator, Caregiver caregiver) throws IOException {
+        generator.writeStartObject();
+        generator.writeStringField("name", caregiver.getName().fullName);
+        generator.writeStringField("phone", caregiver.getPhone().toString());
+        generator.writeStringField("address", caregiver.getAddress().value);
+        generator.writeStringField("note", caregiver.getNote().value);
+        generator.writeBooleanField("pinned", caregiver.getPinned());
+        writeIntegerField(generator, "caregiverId", caregiver.getId());
+        generator.writeEndObject();
+    }
+
+    /**
+     * A gzip stream that deflates at the fastest level, as the files are written far more often than their size
+     * would repay the slower levels.
+     */
+    private static class FastGzipOutputStream extends GZIPOutputStream {
+        FastGzipOutputStream(OutputStream out) throws IOException {
+            super(out, COMPRESSION_BUFFER_SIZE);
+            def.setLevel(Deflater.BEST_SPEED);
+        }
+    }
+
+    private static void writeIntegerField(JsonGenerator generator, String field, Integer value) throws IOException {
+        if (value == null) {
+            generator.writeNullField(field);
+        } else {
+            generator.writeNumberField(field, value);
+        }
+    }
+}
@@ -0,0 +1,91 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.model.person.Person;
+
+/**
+ * Works out the changes that turn one list of persons into another, for storages that save only what changed.
+ * Persons are immutable, so an unchanged person is usually the very same object in both lists, and a person that was
+ * edited in place shows up as a replacement at the same position. A replacement holding the same values as the person
+ * it replaced, e.g. from pinning a person that was already pinned, is told apart by its fingerprint and counts as
+ * unchanged.
+ */
+class PersonListDiff {
+
+    /**
+     * The kinds of change to a list.
+     */
+    enum Kind { INSERT, SET, REMOVE }
+
+    /**
+     * One change to a list, to be applied in order: insert {@code person} at {@code index}, replace the person at
+     * {@code index} with {@code person}, or remove the person at {@code index}, whose {@code person} is null.
+     * Each index refers to the list as it is after the changes before it. {@code replaced} is the person a replacement
+     * or removal takes out of the list, and is null for an insertion.
+     */
+    record Change<T extends Person>(Kind kind, int index, T person, T replaced) {}
+
+    private PersonListDiff() {}
+
+    /**
+     * Returns the changes that turn {@code from} into {@code to}, or null if they cannot be expressed as insertions,
+     * replacements and removals because persons were reordered.
+     */
+    static <T extends Person> List<Change<T>> diff(List<T> from, List<T> to) {
+        // Skip the unchanged ends, so that only the changed middle of the lists is examined
+        int start = 0;
+        while (start < from.size() && start < to.size() && isUnchanged(from.get(start), to.get(start))) {
+            start++;
+        }
+        int fromEnd = from.size();
+        int toEnd = to.size();
+        while (fromEnd > start && toEnd > start && isUnchanged(from.get(fromEnd - 1), to.get(toEnd - 1))) {
+            fromEnd--;
+            toEnd--;
+        }
+        List<T> before = from.subList(start, fromEnd);
+        List<T> after = to.subList(start, toEnd);
+        Set<T> inBefore = Collections.newSetFromMap(new IdentityHashMap<>());
+        inBefore.addAll(before);
+        Set<T> inAfter = Collections.newSetFromMap(new IdentityHashMap<>());
+        inAfter.addAll(after);
+
+        List<Change<T>> changes = new ArrayList<>();
+        int index = start;
+        int i = 0;
+        int j = 0;
+        while (i < before.size() || j < after.size()) {
+            T old = i < before.size() ? before.get(i) : null;
+            T current = j < after.size() ? after.get(j) : null;
+            boolean isOldGone = old != null && !inAfter.contains(old);
+            boolean isCurrentNew = current != null && !inBefore.contains(current);
+            if (old != null && current != null && isUnchanged(old, current)) {
+                i++;
+                j++;
+                index++;
+            } else if (isOldGone && isCurrentNew) {
+                changes.add(new Change<>(Kind.SET, index++, current, old));
+                i++;
+                j++;
+            } else if (isOldGone) {
+                changes.add(new Change<>(Kind.REMOVE, index, null, old));
+                i++;
+            } else if (isCurrentNew) {
+                changes.add(new Change<>(Kind.INSERT, index++, current, null));
+                j++;
+            } else {
+                return null;
+            }
+        }
+        return changes;
+    }
+
+    private static boolean isUnchanged(Person old, Person current) {
+        return old == current || old.hasSameFields(current);
+    }
+}
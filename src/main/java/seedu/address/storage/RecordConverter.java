@@ -0,0 +1,154 @@
+package seedu.address.storage;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+/**
+ * Converts parsed person records into model persons in parallel, on the common fork-join pool.
+ * <p>
+ * The records are split into chunks of about {@value #CHUNK_SIZE}, which workers convert independently into their own
+ * slots of a result array. Each chunk stops at its first invalid record and reports it, and chunks are joined in
+ * order, so the error thrown is the one a serial conversion would have thrown.
+ * Checks that span records, such as duplicates and caregiver assignments, are left to the caller.
+ * <p>
+ * A reader that parses records one at a time passes each to {@link #add(Object)}, which hands every full chunk to the
+ * pool straight away. The chunk's records are dropped once it is converted, so at most a few chunks of parsed records
+ * are held alongside the converted persons, rather than every record in the file.
+ *
+ * @param <R> type of the parsed records
+ * @param <T> type of the converted persons
+ */
+class RecordConverter<R, T> {
+
+    static final int CHUNK_SIZE = 512;
+
+    private final Conversion<R, T> conversion;
+    private final List<ChunkTask<R>> submittedChunks = new ArrayList<>();
+    private final List<Object[]> submittedResults = new ArrayList<>();
+    private List<R> pendingRecords = new ArrayList<>(CHUNK_SIZE);
+
+    /**
+     * Creates a converter that converts the records it is given with {@code conversion}.
+     */
+    RecordConverter(Conversion<R, T> conversion) {
+        this.conversion = conversion;
+    }
+
+    /**
+     * Returns the result of {@code conversion} on each of {@code records}, in order.
+     *
+     * @throws IllegalValueException the exception thrown for the first record, in order, that could not be converted.
+     */
+    static <R, T> List<T> convertAll(List<R> records, Conversion<R, T> conversion) throws IllegalValueException {
+        Object[] results = new Object[records.size()];
+        ChunkTask<R> task = new ChunkTask<>(records, conversion, results, 0, records.size());
+        // Too few records to be worth handing to other threads
+        IllegalValueException failure = records.size() <= CHUNK_SIZE
+                ? task.compute()
+                : ForkJoinPool.commonPool().invoke(task);
+        if (failure != null) {
+            throw failure;
+        }
+        @SuppressWarnings("unchecked")
+        List<T> persons = (List<T>) new ArrayList<>(Arrays.asList(results));
+        return persons;
+    }
+
+    /**
+     * Queues {@code record} for conversion after the records added before it.
+     */
+    void add(R record) {
+        pendingRecords.add(record);
+        if (pendingRecords.size() == CHUNK_SIZE) {
+            Object[] results = new Object[CHUNK_SIZE];
+            ChunkTask<R> task = new ChunkTask<>(pendingRecords, conversion, results, 0, CHUNK_SIZE);
+            submittedChunks.add(task);
+            submittedResults.add(results);
+            ForkJoinPool.commonPool().execute(task);
+            pendingRecords = new ArrayList<>(CHUNK_SIZE);
+        }
+    }
+
+    /**
+     * Returns the result of the conversion on each record added, in order, once all of them are converted.
+     *
+     * @throws IllegalValueException the exception thrown for the first record, in order, that could not be converted.
+     */
+    List<T> finish() throws IllegalValueException {
+        List<T> persons = new ArrayList<>(submittedChunks.size() * CHUNK_SIZE + pendingRecords.size());
+        for (int i = 0; i < submittedChunks.size(); i++) {
+            IllegalValueException failure = submittedChunks.get(i).join();
+            if (failure != null) {
+                throw failure;
+            }
+            addResults(persons, submittedResults.get(i));
+        }
+        persons.addAll(convertAll(pendingRecords, conversion));
+        return persons;
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> void addResults(List<T> persons, Object[] results) {
+        for (Object result : results) {
+            persons.add((T) result);
+        }
+    }
+
+    /**
+     * Converts one parsed record into a model object.
+     */
+    @FunctionalInterface
+    interface Conversion<R, T> {
+        T convert(R record) throws IllegalValueException;
+    }
+
+    /**
+     * Converts the records in {@code [start, end)}, splitting the range in two while it is larger than a chunk.
+     * Returns the exception thrown for the first record in the range that could not be converted, or null if every
+     * record was converted.
+     */
+    private static class ChunkTask<R> extends RecursiveTask<IllegalValueException> {
+        private final Conversion<R, ?> conversion;
+        private final Object[] results;
+        private final int start;
+        private final int end;
+        /** The records to convert, dropped when the task runs so that a finished task does not keep them. */
+        private List<R> records;
+
+        ChunkTask(List<R> records, Conversion<R, ?> conversion, Object[] results, int start, int end) {
+            this.records = records;
+            this.conversion = conversion;
+            this.results = results;
+            this.start = start;
+            this.end = end;
+        }
+
+        @Override
+        protected IllegalValueException compute() {
+            List<R> chunk = records;
+            records = null;
+            if (end - start > CHUNK_SIZE) {
+                int middle = (start + end) >>> 1;
+                ChunkTask<R> right = new ChunkTask<>(chunk, conversion, results, middle, end);
+                right.fork();
+                IllegalValueException leftFailure =
+                        new ChunkTask<>(chunk, conversion, results, start, middle).compute();
+                IllegalValueException rightFailure = right.join();
+                return leftFailure != null ? leftFailure : rightFailure;
+            }
+            for (int i = start; i < end; i++) {
+                try {
+                    results[i] = conversion.convert(chunk.get(i));
+                } catch (IllegalValueException e) {
+                    return e;
+                }
+            }
+            return null;
+        }
+    }
+}
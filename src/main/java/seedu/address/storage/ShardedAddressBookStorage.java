@@ -0,0 +1,650 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.logging.Logger;
+
+import com.fasterxml.jackson.core.JsonEncoding;
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Caregiver;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Senior;
+
+/**
+ * A class to access AddressBook data stored as a directory of JSON shard files on the hard disk.
+ * <p>
+ * The seniors and the caregivers are each split into shards of consecutive persons, about
+ * {@value #DEFAULT_SHARD_SIZE} to a shard. New persons get the next id and go at the end of their list, so each shard
+ * holds a range of ids. A small manifest lists the shards of each list in order, with the number of persons in each and
+ * the SHA-256 hash of its contents, along with the id sequences:
+ * <pre>
+ * addressbook.shards/manifest.json                   {"version", "seniorSeq", "caregiverSeq",
+ *                                                     "seniors": [{"file", "count", "sha256"}, ...], "caregivers": ...}
+ * addressbook.shards/seniors-0123456789abcdef.json   [senior, ...]
+ * </pre>
+ * Each shard file is named after its hash and never changes once written. A save works out which persons changed
+ * since the last save with {@link PersonListDiff}, writes new files for just the shards holding them, then replaces
+ * the manifest and deletes the shard files it no longer lists. A save cut short leaves the old manifest, and the
+ * shards it lists, in place. Loading reads the shards in parallel and checks each against its hash.
+ */
+public class ShardedAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "The manifest has unsupported format version %d.";
+    public static final String MESSAGE_CORRUPTED_MANIFEST = "The manifest of the data files is corrupted.";
+    public static final String MESSAGE_SHARD_MISMATCH = "Data file %s does not match the manifest.";
+
+    static final String MANIFEST_FILE_NAME = "manifest.json";
+    static final int VERSION = 1;
+    static final int DEFAULT_SHARD_SIZE = 256;
+
+    private static final String SHARDS_DIRECTORY_SUFFIX = ".shards";
+    private static final String JSON_EXTENSION = ".json";
+    private static final String TEMP_SUFFIX = ".tmp";
+    private static final String SENIOR_SHARD_PREFIX = "seniors-";
+    private static final String CAREGIVER_SHARD_PREFIX = "caregivers-";
+    private static final String SHARD_FILE_GLOB = "{" + SENIOR_SHARD_PREFIX + "," + CAREGIVER_SHARD_PREFIX + "}*"
+            + JSON_EXTENSION;
+    /** Number of hex digits of the hash used in shard file names. */
+    private static final int FILE_NAME_HASH_LENGTH = 16;
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+
+    private static final Logger logger = LogsCenter.getLogger(ShardedAddressBookStorage.class);
+
+    private final Path filePath;
+    private final boolean isCompact;
+    private final int shardSize;
+
+    // The shards listed in the manifest at filePath, and the address book they hold, as of the last read or save
+    private ShardList<Senior> seniorShards;
+    private ShardList<Caregiver> caregiverShards;
+    private AddressBookSnapshot saved;
+
+    /**
+     * Creates a {@code ShardedAddressBookStorage} for the manifest at {@code filePath}, with the shard files kept
+     * in the same directory.
+     *
+     * @param isCompact whether to leave out the indentation and line breaks that make the files easy to read.
+     */
+    public ShardedAddressBookStorage(Path filePath, boolean isCompact) {
+        this(filePath, isCompact, DEFAULT_SHARD_SIZE);
+    }
+
+    ShardedAddressBookStorage(Path filePath, boolean isCompact, int shardSize) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+        this.isCompact = isCompact;
+        this.shardSize = shardSize;
+    }
+
+    /**
+     * Returns the path of the manifest to keep next to the JSON data file at {@code jsonFilePath},
+     * e.g. {@code data/addressbook.shards/manifest.json} for {@code data/addressbook.json}.
+     */
+    public static Path getManifestFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        String baseName = fileName.endsWith(JSON_EXTENSION)
+                ? fileName.substring(0, fileName.length() - JSON_EXTENSION.length())
+                : fileName;
+        return jsonFilePath.resolveSibling(baseName + SHARDS_DIRECTORY_SUFFIX).resolve(MANIFEST_FILE_NAME);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Manifest " + filePath + " found.");
+
+        try {
+            ShardList<Senior> seniors = ShardList.ofSeniors();
+            ShardList<Caregiver> caregivers = ShardList.ofCaregivers();
+            AddressBook addressBook = read(filePath, seniors, caregivers);
+            if (filePath.equals(this.filePath)) {
+                seniorShards = seniors;
+                caregiverShards = caregivers;
+                saved = new AddressBookSnapshot(addressBook);
+            }
+            return Optional.of(addressBook);
+        } catch (IOException ioe) {
+            logger.warning("Error reading from data files of " + filePath + ": " + ioe);
+            throw new DataLoadingException(ioe);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in data files of " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the manifest. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            ShardList<Senior> seniors = ShardList.ofSeniors();
+            ShardList<Caregiver> caregivers = ShardList.ofCaregivers();
+            seniors.update(null, addressBook.getSeniorList(), shardSize);
+            caregivers.update(null, addressBook.getCaregiverList(), shardSize);
+            write(filePath, seniors, caregivers, addressBook, isCompact);
+            return;
+        }
+
+        AddressBookSnapshot current = addressBook instanceof AddressBookSnapshot
+                ? (AddressBookSnapshot) addressBook
+                : new AddressBookSnapshot(addressBook);
+        AddressBookSnapshot previous = saved;
+        // Until the manifest is written, the shards held in memory may not match the files
+        saved = null;
+        if (previous == null) {
+            seniorShards = ShardList.ofSeniors();
+            caregiverShards = ShardList.ofCaregivers();
+        }
+        boolean isSeniorsChanged = seniorShards.update(previous == null ? null : previous.getSeniorList(),
+                current.getSeniorList(), shardSize);
+        boolean isCaregiversChanged = caregiverShards.update(previous == null ? null : previous.getCaregiverList(),
+                current.getCaregiverList(), shardSize);
+        if (previous == null || isSeniorsChanged || isCaregiversChanged
+                || previous.getSeniorSeq() != current.getSeniorSeq()
+                || previous.getCaregiverSeq() != current.getCaregiverSeq()) {
+            write(filePath, seniorShards, caregiverShards, current, isCompact);
+        }
+        saved = current;
+    }
+
+    /**
+     * Returns the address book stored in the shards listed by the manifest at {@code manifestPath},
+     * adding the shards read to {@code seniors} and {@code caregivers}.
+     *
+     * @throws IOException if a file cannot be read or is not well-formed JSON.
+     * @throws IllegalValueException if a shard does not match the manifest or any data constraints were violated.
+     */
+    private static AddressBook read(Path manifestPath, ShardList<Senior> seniors, ShardList<Caregiver> caregivers)
+            throws IOException, IllegalValueException {
+        Manifest manifest = readManifest(manifestPath);
+        Path directory = manifestPath.toAbsolutePath().getParent();
+        int shardCount = manifest.seniors().size() + manifest.caregivers().size();
+        ExecutorService readers = Executors.newFixedThreadPool(
+                Math.max(1, Math.min(shardCount, Runtime.getRuntime().availableProcessors())), runnable -> {
+                    Thread thread = new Thread(runnable, "shard-reader");
+                    thread.setDaemon(true);
+                    return thread;
+                });
+        try {
+            // Every shard is queued before any is waited for, so seniors and caregivers are read side by side
+            List<Future<List<Senior>>> seniorReads = seniors.submitReads(readers, directory, manifest.seniors());
+            List<Future<List<Caregiver>>> caregiverReads =
+                    caregivers.submitReads(readers, directory, manifest.caregivers());
+            List<Senior> seniorList = seniors.load(manifest.seniors(), seniorReads);
+            List<Caregiver> caregiverList = caregivers.load(manifest.caregivers(), caregiverReads);
+            return JsonAddressBookReader.toAddressBook(caregiverList, seniorList, manifest.seniorSeq(),
+                    manifest.caregiverSeq());
+        } finally {
+            readers.shutdownNow();
+        }
+    }
+
+    private static Manifest readManifest(Path manifestPath) throws IOException, IllegalValueException {
+        try (InputStream in = Files.newInputStream(manifestPath); JsonParser parser = JSON_FACTORY.createParser(in)) {
+            JsonAddressBookReader.expect(parser, parser.nextToken(), JsonToken.START_OBJECT);
+            Integer version = null;
+            Integer seniorSeq = null;
+            Integer caregiverSeq = null;
+            List<ShardEntry> seniors = null;
+            List<ShardEntry> caregivers = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                parser.nextToken();
+                switch (field) {
+                case "version":
+                    version = JsonAddressBookReader.readInteger(parser);
+                    break;
+                case "seniorSeq":
+                    seniorSeq = JsonAddressBookReader.readInteger(parser);
+                    break;
+                case "caregiverSeq":
+                    caregiverSeq = JsonAddressBookReader.readInteger(parser);
+                    break;
+                case "seniors":
+                    seniors = readShardEntries(parser, SENIOR_SHARD_PREFIX);
+                    break;
+                case "caregivers":
+                    caregivers = readShardEntries(parser, CAREGIVER_SHARD_PREFIX);
+                    break;
+                default:
+                    parser.skipChildren();
+                }
+            }
+            if (version == null || seniors == null || caregivers == null) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_MANIFEST);
+            }
+            if (version != VERSION) {
+                throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+            }
+            return new Manifest(seniors, caregivers, seniorSeq, caregiverSeq);
+        }
+    }
+
+    private static List<ShardEntry> readShardEntries(JsonParser parser, String prefix)
+            throws IOException, IllegalValueException {
+        JsonAddressBookReader.expect(parser, parser.getCurrentToken(), JsonToken.START_ARRAY);
+        List<ShardEntry> entries = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            String fileName = null;
+            Integer count = null;
+            String hash = null;
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String field = parser.getCurrentName();
+                JsonToken value = parser.nextToken();
+                switch (field) {
+                case "file":
+                    fileName = value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                    break;
+                case "count":
+                    count = JsonAddressBookReader.readInteger(parser);
+                    break;
+                case "sha256":
+                    hash = value == JsonToken.VALUE_STRING ? parser.getText() : null;
+                    break;
+                default:
+                    parser.skipChildren();
+                }
+            }
+            // Shard files are only ever looked up inside the directory of the manifest
+            if (fileName == null || !fileName.startsWith(prefix) || fileName.contains("/") || fileName.contains("\\")
+                    || count == null || count < 0 || hash == null) {
+                throw new IllegalValueException(MESSAGE_CORRUPTED_MANIFEST);
+            }
+            entries.add(new ShardEntry(fileName, count, hash));
+        }
+        JsonAddressBookReader.expect(parser, parser.getCurrentToken(), JsonToken.END_ARRAY);
+        return entries;
+    }
+
+    /**
+     * Writes the shards of {@code seniors} and {@code caregivers} that have changed, then a manifest listing all of
+     * them along with the id sequences of {@code addressBook}, then deletes the shard files that are no longer listed.
+     */
+    private static void write(Path manifestPath, ShardList<Senior> seniors, ShardList<Caregiver> caregivers,
+            ReadOnlyAddressBook addressBook, boolean isCompact) throws IOException {
+        Path directory = manifestPath.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        seniors.writeShards(directory, isCompact);
+        caregivers.writeShards(directory, isCompact);
+
+        ByteArrayOutputStream manifest = new ByteArrayOutputStream();
+        try (JsonGenerator generator = createGenerator(manifest, isCompact)) {
+            generator.writeStartObject();
+            generator.writeNumberField("version", VERSION);
+            generator.writeNumberField("seniorSeq", addressBook.getSeniorSeq());
+            generator.writeNumberField("caregiverSeq", addressBook.getCaregiverSeq());
+            generator.writeFieldName("seniors");
+            seniors.writeEntries(generator);
+            generator.writeFieldName("caregivers");
+            caregivers.writeEntries(generator);
+            generator.writeEndObject();
+        }
+        writeFile(manifestPath, manifest.toByteArray());
+
+        Set<String> fileNames = new HashSet<>();
+        seniors.addFileNames(fileNames);
+        caregivers.addFileNames(fileNames);
+        try (DirectoryStream<Path> shardFiles = Files.newDirectoryStream(directory, SHARD_FILE_GLOB)) {
+            for (Path shardFile : shardFiles) {
+                if (!fileNames.contains(shardFile.getFileName().toString())) {
+                    Files.deleteIfExists(shardFile);
+                }
+            }
+        }
+    }
+
+    /**
+     * Replaces the file at {@code filePath} with one holding {@code content}, so that readers see either the old
+     * contents or the new, never a mix.
+     */
+    private static void writeFile(Path filePath, byte[] content) throws IOException {
+        Path tempPath = filePath.resolveSibling(filePath.getFileName() + TEMP_SUFFIX);
+        Files.write(tempPath, content);
+        Files.move(tempPath, filePath, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    private static JsonGenerator createGenerator(OutputStream out, boolean isCompact) throws IOException {
+        JsonGenerator generator = JSON_FACTORY.createGenerator(out, JsonEncoding.UTF8);
+        if (!isCompact) {
+            generator.useDefaultPrettyPrinter();
+        }
+        return generator;
+    }
+
+    private static String hash(byte[] content) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(content));
+        } catch (NoSuchAlgorithmException e) {
+            throw new AssertionError("Every Java platform supports SHA-256", e);
+        }
+    }
+
+    private static <T> T await(Future<T> future) throws IOException, IllegalValueException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while reading data files");
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            } else if (cause instanceof IllegalValueException) {
+                throw (IllegalValueException) cause;
+            } else if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * The contents of a manifest.
+     */
+    private record Manifest(List<ShardEntry> seniors, List<ShardEntry> caregivers, Integer seniorSeq,
+            Integer caregiverSeq) {}
+
+    /**
+     * The manifest entry of one shard: its file name, the number of persons in it, and the hash of its contents.
+     */
+    private record ShardEntry(String fileName, int count, String hash) {}
+
+    /**
+     * One shard of a list of persons. Its file name and hash are null if its persons have changed since the shard
+     * file was written.
+     */
+    private static class Shard<T extends Person> {
+        private final List<T> persons;
+        private String fileName;
+        private String hash;
+
+        Shard(List<T> persons) {
+            this.persons = persons;
+        }
+
+        void markChanged() {
+            fileName = null;
+            hash = null;
+        }
+
+        boolean isChanged() {
+            return fileName == null;
+        }
+    }
+
+    /**
+     * The shards of a list of persons, in list order.
+     */
+    private static class ShardList<T extends Person> {
+        private final String prefix;
+        private final RecordReader<T> reader;
+        private final RecordWriter<T> writer;
+        private final List<Shard<T>> shards = new ArrayList<>();
+
+        private ShardList(String prefix, RecordReader<T> reader, RecordWriter<T> writer) {
+            this.prefix = prefix;
+            this.reader = reader;
+            this.writer = writer;
+        }
+
+        static ShardList<Senior> ofSeniors() {
+            return new ShardList<>(SENIOR_SHARD_PREFIX, JsonAddressBookReader::readSenior,
+                    JsonAddressBookWriter::writeSenior);
+        }
+
+        static ShardList<Caregiver> ofCaregivers() {
+            return new ShardList<>(CAREGIVER_SHARD_PREFIX, JsonAddressBookReader::readCaregiver,
+                    JsonAddressBookWriter::writeCaregiver);
+        }
+
+        /**
+         * Updates the shards from holding {@code from} to holding {@code to}, marking the shards whose persons
+         * changed, or splits {@code to} into new shards if {@code from} is null or the persons were reordered.
+         *
+         * @return whether any shard changed.
+         */
+        boolean update(List<T> from, List<T> to, int shardSize) {
+            List<PersonListDiff.Change<T>> changes = from == null ? null : PersonListDiff.diff(from, to);
+            if (changes == null) {
+                shards.clear();
+                for (int i = 0; i < to.size(); i += shardSize) {
+                    shards.add(new Shard<>(new ArrayList<>(to.subList(i, Math.min(i + shardSize, to.size())))));
+                }
+                return true;
+            }
+            for (PersonListDiff.Change<T> change : changes) {
+                apply(change);
+            }
+            rebalance(shardSize);
+            return !changes.isEmpty();
+        }
+
+        private void apply(PersonListDiff.Change<T> change) {
+            int start = 0;
+            for (Shard<T> shard : shards) {
+                int end = start + shard.persons.size();
+                // A person inserted between two shards joins the end of the first
+                if (change.index() < end || (change.kind() == PersonListDiff.Kind.INSERT && change.index() == end)) {
+                    int offset = change.index() - start;
+                    switch (change.kind()) {
+                    case INSERT:
+                        shard.persons.add(offset, change.person());
+                        break;
+                    case SET:
+                        shard.persons.set(offset, change.person());
+                        break;
+                    default:
+                        shard.persons.remove(offset);
+                    }
+                    shard.markChanged();
+                    return;
+                }
+                start = end;
+            }
+            // Only an insertion into an empty list gets here
+            Shard<T> shard = new Shard<>(new ArrayList<>());
+            shard.persons.add(change.person());
+            shards.add(shard);
+        }
+
+        /**
+         * Drops empty shards, merges changed shards into their next neighbour while the two fit in one shard,
+         * and splits changed shards that have grown to more than twice {@code shardSize}.
+         */
+        private void rebalance(int shardSize) {
+            for (int i = 0; i < shards.size(); i++) {
+                Shard<T> shard = shards.get(i);
+                if (shard.persons.isEmpty()) {
+                    shards.remove(i--);
+                    continue;
+                }
+                if (!shard.isChanged()) {
+                    continue;
+                }
+                while (i + 1 < shards.size() && shard.persons.size() + shards.get(i + 1).persons.size() <= shardSize) {
+                    shard.persons.addAll(shards.remove(i + 1).persons);
+                }
+                if (shard.persons.size() > 2 * shardSize) {
+                    shards.remove(i);
+                    for (int j = 0; j < shard.persons.size(); j += shardSize) {
+                        List<T> persons = shard.persons.subList(j, Math.min(j + shardSize, shard.persons.size()));
+                        shards.add(i++, new Shard<>(new ArrayList<>(persons)));
+                    }
+                    i--;
+                }
+            }
+        }
+
+        /**
+         * Queues a read of each shard in {@code entries} from {@code directory} on {@code readers}.
+         */
+        List<Future<List<T>>> submitReads(ExecutorService readers, Path directory, List<ShardEntry> entries) {
+            List<Future<List<T>>> reads = new ArrayList<>();
+            for (ShardEntry entry : entries) {
+                reads.add(readers.submit(() -> readShard(directory, entry)));
+            }
+            return reads;
+        }
+
+        private List<T> readShard(Path directory, ShardEntry entry) throws IOException, IllegalValueException {
+            byte[] content = Files.readAllBytes(directory.resolve(entry.fileName()));
+            if (!hash(content).equals(entry.hash())) {
+                throw new IllegalValueException(String.format(MESSAGE_SHARD_MISMATCH, entry.fileName()));
+            }
+            List<T> persons = new ArrayList<>(entry.count());
+            try (JsonParser parser = JSON_FACTORY.createParser(content)) {
+                JsonAddressBookReader.expect(parser, parser.nextToken(), JsonToken.START_ARRAY);
+                while (parser.nextToken() != JsonToken.END_ARRAY) {
+                    persons.add(reader.read(parser));
+                }
+            }
+            if (persons.size() != entry.count()) {
+                throw new IllegalValueException(String.format(MESSAGE_SHARD_MISMATCH, entry.fileName()));
+            }
+            return persons;
+        }
+
+        /**
+         * Waits for the shards in {@code entries} to be read by {@code reads}, keeping them as the shards of this list.
+         *
+         * @return the persons in all the shards, in order.
+         */
+        List<T> load(List<ShardEntry> entries, List<Future<List<T>>> reads) throws IOException, IllegalValueException {
+            shards.clear();
+            List<T> persons = new ArrayList<>();
+            for (int i = 0; i < entries.size(); i++) {
+                List<T> shardPersons = await(reads.get(i));
+                Shard<T> shard = new Shard<>(shardPersons);
+                shard.fileName = entries.get(i).fileName();
+                shard.hash = entries.get(i).hash();
+                shards.add(shard);
+                persons.addAll(shardPersons);
+            }
+            return persons;
+        }
+
+        /**
+         * Writes a file into {@code directory} for each changed shard, named after the hash of its contents.
+         * A shard whose contents are already in a file is not written again.
+         */
+        void writeShards(Path directory, boolean isCompact) throws IOException {
+            for (Shard<T> shard : shards) {
+                if (!shard.isChanged()) {
+                    continue;
+                }
+                ByteArrayOutputStream content = new ByteArrayOutputStream();
+                try (JsonGenerator generator = createGenerator(content, isCompact)) {
+                    generator.writeStartArray();
+                    for (T person : shard.persons) {
+                        writer.write(generator, person);
+                    }
+                    generator.writeEndArray();
+                }
+                byte[] bytes = content.toByteArray();
+                String hash = hash(bytes);
+                String fileName = prefix + hash.substring(0, FILE_NAME_HASH_LENGTH) + JSON_EXTENSION;
+                Path shardPath = directory.resolve(fileName);
+                if (!Files.exists(shardPath)) {
+                    writeFile(shardPath, bytes);
+                }
+                shard.fileName = fileName;
+                shard.hash = hash;
+            }
+        }
+
+        void writeEntries(JsonGenerator generator) throws IOException {
+            generator.writeStartArray();
+            for (Shard<T> shard : shards) {
+                generator.writeStartObject();
+                generator.writeStringField("file", shard.fileName);
+                generator.writeNumberField("count", shard.persons.size());
+                generator.writeStringField("sha256", shard.hash);
+                generator.writeEndObject();
+            }
+            generator.writeEndArray();
+        }
+
+        void addFileNames(Set<String> fileNames) {
+            for (Shard<T> shard : shards) {
+                fileNames.add(shard.fileName);
+            }
+        }
+    }
+
+    /**
+     * Reads the person record starting at the current token of a parser.
+     */
+    @FunctionalInterface
+    private interface RecordReader<T> {
+        T read(JsonParser parser) throws IOException, IllegalValueException;
+    }
+
+    /**
+     * Writes a person record to a generator.
+     */
+    @FunctionalInterface
+    private interface RecordWriter<T> {
+        void write(JsonGenerator generator, T person) throws IOException;
+    }
+}
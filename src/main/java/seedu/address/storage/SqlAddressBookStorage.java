@@ -0,0 +1,524 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Types;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Caregiver;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Senior;
+
+/**
+ * A class to access AddressBook data stored in an embedded H2 database file on the hard disk.
+ * <p>
+ * Seniors and caregivers are rows of their own tables, kept in list order by an {@code ordinal} column.
+ * A senior's assignment is its {@code caregiver_id} column, which is indexed along with the person ids so that the
+ * seniors assigned to a caregiver can be looked up directly. Each save is one transaction of row inserts, updates and
+ * deletes for just the persons changed since the last save, as worked out by {@link PersonListDiff}.
+ */
+public class SqlAddressBookStorage implements AddressBookStorage {
+
+    public static final String MESSAGE_NOT_DATABASE_FILE = "Database file name must end with .mv.db";
+
+    static final String DATABASE_FILE_SUFFIX = ".mv.db";
+    /** Space left between the ordinals of neighbouring rows, so that most insertions need no renumbering. */
+    static final long ORDINAL_GAP = 1 << 16;
+
+    private static final String JSON_EXTENSION = ".json";
+    private static final String SENIOR_SEQ = "seniorSeq";
+    private static final String CAREGIVER_SEQ = "caregiverSeq";
+    private static final String[] SCHEMA = {
+        "CREATE TABLE IF NOT EXISTS sequences (name VARCHAR(32) PRIMARY KEY, seq INT NOT NULL)",
+        "CREATE TABLE IF NOT EXISTS caregivers (row_key BIGINT PRIMARY KEY, ordinal BIGINT NOT NULL, "
+                + "caregiver_id INT, name VARCHAR NOT NULL, phone VARCHAR NOT NULL, address VARCHAR NOT NULL, "
+                + "note VARCHAR NOT NULL, pinned BOOLEAN NOT NULL)",
+        "CREATE INDEX IF NOT EXISTS caregivers_ordinal ON caregivers (ordinal)",
+        "CREATE INDEX IF NOT EXISTS caregivers_caregiver_id ON caregivers (caregiver_id)",
+        "CREATE TABLE IF NOT EXISTS seniors (row_key BIGINT PRIMARY KEY, ordinal BIGINT NOT NULL, "
+                + "senior_id INT, name VARCHAR NOT NULL, phone VARCHAR NOT NULL, address VARCHAR NOT NULL, "
+                + "note VARCHAR NOT NULL, risk_tag VARCHAR NOT NULL, pinned BOOLEAN NOT NULL, caregiver_id INT)",
+        "CREATE INDEX IF NOT EXISTS seniors_ordinal ON seniors (ordinal)",
+        "CREATE INDEX IF NOT EXISTS seniors_senior_id ON seniors (senior_id)",
+        "CREATE INDEX IF NOT EXISTS seniors_caregiver_id ON seniors (caregiver_id)"
+    };
+
+    private static final Logger logger = LogsCenter.getLogger(SqlAddressBookStorage.class);
+
+    private final Path filePath;
+
+    // The open database at filePath, and its rows as of the last read or save
+    private Connection connection;
+    private SeniorTable seniorTable;
+    private CaregiverTable caregiverTable;
+    private AddressBookSnapshot saved;
+
+    /**
+     * Creates a {@code SqlAddressBookStorage} for the database file at {@code filePath}.
+     *
+     * @param filePath path of the database file, whose name must end with {@value #DATABASE_FILE_SUFFIX}.
+     */
+    public SqlAddressBookStorage(Path filePath) {
+        requireNonNull(filePath);
+        checkArgument(filePath.getFileName().toString().endsWith(DATABASE_FILE_SUFFIX), MESSAGE_NOT_DATABASE_FILE);
+        this.filePath = filePath;
+    }
+
+    /**
+     * Returns the path of the database file to keep next to the JSON data file at {@code jsonFilePath},
+     * e.g. {@code data/addressbook.mv.db} for {@code data/addressbook.json}.
+     */
+    public static Path getDatabaseFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        String baseName = fileName.endsWith(JSON_EXTENSION)
+                ? fileName.substring(0, fileName.length() - JSON_EXTENSION.length())
+                : fileName;
+        return jsonFilePath.resolveSibling(baseName + DATABASE_FILE_SUFFIX);
+    }
+
+    @Override
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    @Override
+    public synchronized Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+        logger.info("Database file " + filePath + " found.");
+
+        boolean isOwnFile = filePath.equals(this.filePath);
+        Connection fileConnection = null;
+        try {
+            fileConnection = isOwnFile ? getConnection() : open(filePath);
+            SeniorTable seniors = new SeniorTable();
+            CaregiverTable caregivers = new CaregiverTable();
+            AddressBook addressBook = JsonAddressBookReader.toAddressBook(caregivers.load(fileConnection),
+                    seniors.load(fileConnection), readSeq(fileConnection, SENIOR_SEQ),
+                    readSeq(fileConnection, CAREGIVER_SEQ));
+            fileConnection.commit();
+            if (isOwnFile) {
+                seniorTable = seniors;
+                caregiverTable = caregivers;
+                saved = new AddressBookSnapshot(addressBook);
+            }
+            return Optional.of(addressBook);
+        } catch (SQLException e) {
+            logger.warning("Error reading from database file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        } finally {
+            if (!isOwnFile) {
+                closeQuietly(fileConnection);
+            }
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    @Override
+    public synchronized void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            FileUtil.createParentDirsOfFile(filePath);
+            try (Connection fileConnection = open(filePath)) {
+                new SeniorTable().rewrite(fileConnection, addressBook.getSeniorList());
+                new CaregiverTable().rewrite(fileConnection, addressBook.getCaregiverList());
+                writeSeqs(fileConnection, addressBook);
+                fileConnection.commit();
+            } catch (SQLException e) {
+                throw new IOException(e);
+            }
+            return;
+        }
+
+        AddressBookSnapshot current = addressBook instanceof AddressBookSnapshot
+                ? (AddressBookSnapshot) addressBook
+                : new AddressBookSnapshot(addressBook);
+        AddressBookSnapshot previous = saved;
+        // Until the transaction commits, the rows held in memory may not match the database
+        saved = null;
+        try {
+            FileUtil.createParentDirsOfFile(filePath);
+            Connection fileConnection = getConnection();
+            if (previous == null) {
+                seniorTable = new SeniorTable();
+                caregiverTable = new CaregiverTable();
+            }
+            seniorTable.update(fileConnection, previous == null ? null : previous.getSeniorList(),
+                    current.getSeniorList());
+            caregiverTable.update(fileConnection, previous == null ? null : previous.getCaregiverList(),
+                    current.getCaregiverList());
+            if (previous == null || previous.getSeniorSeq() != current.getSeniorSeq()
+                    || previous.getCaregiverSeq() != current.getCaregiverSeq()) {
+                writeSeqs(fileConnection, current);
+            }
+            fileConnection.commit();
+            saved = current;
+        } catch (SQLException e) {
+            rollbackQuietly();
+            throw new IOException(e);
+        }
+    }
+
+    /**
+     * Closes the database, which writes out everything saved to it. It is opened again when next used.
+     */
+    @Override
+    public synchronized void compactAddressBook() throws IOException {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            throw new IOException(e);
+        } finally {
+            connection = null;
+        }
+    }
+
+    private Connection getConnection() throws SQLException {
+        if (connection == null || connection.isClosed()) {
+            connection = open(filePath);
+        }
+        return connection;
+    }
+
+    /**
+     * Opens the database file at {@code filePath}, creating it and its tables if needed.
+     * The connection returned does not commit on its own.
+     */
+    private static Connection open(Path filePath) throws SQLException {
+        String path = filePath.toAbsolutePath().toString();
+        String databasePath = path.substring(0, path.length() - DATABASE_FILE_SUFFIX.length());
+        Connection connection = DriverManager.getConnection("jdbc:h2:file:" + databasePath);
+        try (Statement statement = connection.createStatement()) {
+            for (String sql : SCHEMA) {
+                statement.execute(sql);
+            }
+            connection.setAutoCommit(false);
+        } catch (SQLException e) {
+            closeQuietly(connection);
+            throw e;
+        }
+        return connection;
+    }
+
+    private void rollbackQuietly() {
+        try {
+            if (connection != null) {
+                connection.rollback();
+            }
+        } catch (SQLException e) {
+            logger.warning("Could not roll back " + filePath + ": " + e);
+        }
+    }
+
+    private static void closeQuietly(Connection connection) {
+        if (connection == null) {
+            return;
+        }
+        try {
+            connection.close();
+        } catch (SQLException e) {
+            logger.warning("Could not close database: " + e);
+        }
+    }
+
+    private static Integer readSeq(Connection connection, String name) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement("SELECT seq FROM sequences WHERE name = ?")) {
+            statement.setString(1, name);
+            try (ResultSet result = statement.executeQuery()) {
+                return result.next() ? result.getInt(1) : null;
+            }
+        }
+    }
+
+    private static void writeSeqs(Connection connection, ReadOnlyAddressBook addressBook) throws SQLException {
+        try (PreparedStatement statement = connection.prepareStatement(
+                "MERGE INTO sequences (name, seq) KEY (name) VALUES (?, ?)")) {
+            statement.setString(1, SENIOR_SEQ);
+            statement.setInt(2, addressBook.getSeniorSeq());
+            statement.addBatch();
+            statement.setString(1, CAREGIVER_SEQ);
+            statement.setInt(2, addressBook.getCaregiverSeq());
+            statement.addBatch();
+            statement.executeBatch();
+        }
+    }
+
+    private static void setInteger(PreparedStatement statement, int index, Integer value) throws SQLException {
+        if (value == null) {
+            statement.setNull(index, Types.INTEGER);
+        } else {
+            statement.setInt(index, value);
+        }
+    }
+
+    private static Integer getInteger(ResultSet result, String column) throws SQLException {
+        int value = result.getInt(column);
+        return result.wasNull() ? null : value;
+    }
+
+    /**
+     * The rows of one person table, along with the row key and ordinal of each, in list order.
+     */
+    private abstract static class PersonTable<T extends Person> {
+        private final String table;
+        private final String[] columns;
+        private final List<Long> rowKeys = new ArrayList<>();
+        private final List<Long> ordinals = new ArrayList<>();
+        private long nextRowKey;
+
+        PersonTable(String table, String... columns) {
+            this.table = table;
+            this.columns = columns;
+        }
+
+        /**
+         * Sets the data columns of {@code statement}, starting at parameter {@code index}, to those of {@code person}.
+         */
+        abstract void bind(PreparedStatement statement, int index, T person) throws SQLException;
+
+        /**
+         * Returns the person in the current row of {@code result}.
+         */
+        abstract T read(ResultSet result) throws SQLException, IllegalValueException;
+
+        /**
+         * Returns the persons in the table, in order.
+         */
+        List<T> load(Connection connection) throws SQLException, IllegalValueException {
+            rowKeys.clear();
+            ordinals.clear();
+            nextRowKey = 0;
+            List<T> persons = new ArrayList<>();
+            try (Statement statement = connection.createStatement();
+                    ResultSet result = statement.executeQuery(
+                            "SELECT * FROM " + table + " ORDER BY ordinal")) {
+                while (result.next()) {
+                    long rowKey = result.getLong("row_key");
+                    rowKeys.add(rowKey);
+                    ordinals.add(result.getLong("ordinal"));
+                    nextRowKey = Math.max(nextRowKey, rowKey + 1);
+                    persons.add(read(result));
+                }
+            }
+            return persons;
+        }
+
+        /**
+         * Updates the table from holding {@code from} to holding {@code to}, one row per changed person,
+         * or rewrites it if {@code from} is null or the persons were reordered.
+         */
+        void update(Connection connection, List<T> from, List<T> to) throws SQLException {
+            List<PersonListDiff.Change<T>> changes = from == null ? null : PersonListDiff.diff(from, to);
+            if (changes == null) {
+                rewrite(connection, to);
+                return;
+            }
+            for (PersonListDiff.Change<T> change : changes) {
+                switch (change.kind()) {
+                case INSERT:
+                    insert(connection, change.index(), change.person());
+                    break;
+                case SET:
+                    set(connection, change.index(), change.person());
+                    break;
+                default:
+                    remove(connection, change.index());
+                }
+            }
+        }
+
+        /**
+         * Replaces every row of the table with {@code persons}.
+         */
+        void rewrite(Connection connection, List<T> persons) throws SQLException {
+            rowKeys.clear();
+            ordinals.clear();
+            nextRowKey = 0;
+            try (Statement statement = connection.createStatement()) {
+                statement.executeUpdate("DELETE FROM " + table);
+            }
+            try (PreparedStatement statement = connection.prepareStatement(insertSql())) {
+                for (T person : persons) {
+                    long ordinal = rowKeys.size() * ORDINAL_GAP;
+                    statement.setLong(1, nextRowKey);
+                    statement.setLong(2, ordinal);
+                    bind(statement, 3, person);
+                    statement.addBatch();
+                    rowKeys.add(nextRowKey++);
+                    ordinals.add(ordinal);
+                }
+                statement.executeBatch();
+            }
+        }
+
+        private void insert(Connection connection, int index, T person) throws SQLException {
+            Long ordinal = ordinalBefore(index);
+            if (ordinal == null) {
+                renumber(connection);
+                ordinal = ordinalBefore(index);
+            }
+            try (PreparedStatement statement = connection.prepareStatement(insertSql())) {
+                statement.setLong(1, nextRowKey);
+                statement.setLong(2, ordinal);
+                bind(statement, 3, person);
+                statement.executeUpdate();
+            }
+            rowKeys.add(index, nextRowKey++);
+            ordinals.add(index, ordinal);
+        }
+
+        private void set(Connection connection, int index, T person) throws SQLException {
+            String assignments = String.join(" = ?, ", columns) + " = ?";
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "UPDATE " + table + " SET " + assignments + " WHERE row_key = ?")) {
+                bind(statement, 1, person);
+                statement.setLong(columns.length + 1, rowKeys.get(index));
+                statement.executeUpdate();
+            }
+        }
+
+        private void remove(Connection connection, int index) throws SQLException {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "DELETE FROM " + table + " WHERE row_key = ?")) {
+                statement.setLong(1, rowKeys.get(index));
+                statement.executeUpdate();
+            }
+            rowKeys.remove(index);
+            ordinals.remove(index);
+        }
+
+        /**
+         * Returns an ordinal that sorts a row inserted at {@code index} between its neighbours,
+         * or null if there is no room left between them.
+         */
+        private Long ordinalBefore(int index) {
+            Long previous = index > 0 ? ordinals.get(index - 1) : null;
+            Long next = index < ordinals.size() ? ordinals.get(index) : null;
+            if (previous == null) {
+                return next == null ? 0 : next - ORDINAL_GAP;
+            }
+            if (next == null) {
+                return previous + ORDINAL_GAP;
+            }
+            return next - previous > 1 ? previous + (next - previous) / 2 : null;
+        }
+
+        private void renumber(Connection connection) throws SQLException {
+            try (PreparedStatement statement = connection.prepareStatement(
+                    "UPDATE " + table + " SET ordinal = ? WHERE row_key = ?")) {
+                for (int i = 0; i < rowKeys.size(); i++) {
+                    long ordinal = i * ORDINAL_GAP;
+                    ordinals.set(i, ordinal);
+                    statement.setLong(1, ordinal);
+                    statement.setLong(2, rowKeys.get(i));
+                    statement.addBatch();
+                }
+                statement.executeBatch();
+            }
+        }
+
+        private String insertSql() {
+            return "INSERT INTO " + table + " (row_key, ordinal, " + String.join(", ", columns) + ") VALUES (?, ?"
+                    + ", ?".repeat(columns.length) + ")";
+        }
+    }
+
+    private static class SeniorTable extends PersonTable<Senior> {
+        SeniorTable() {
+            super("seniors", "senior_id", "name", "phone", "address", "note", "risk_tag", "pinned", "caregiver_id");
+        }
+
+        @Override
+        void bind(PreparedStatement statement, int index, Senior senior) throws SQLException {
+            setInteger(statement, index, senior.getId());
+            statement.setString(index + 1, senior.getName().fullName);
+            statement.setString(index + 2, senior.getPhone().toString());
+            statement.setString(index + 3, senior.getAddress().value);
+            statement.setString(index + 4, senior.getNote().value);
+            statement.setString(index + 5, senior.getRiskTag().tagName);
+            statement.setBoolean(index + 6, senior.getPinned());
+            setInteger(statement, index + 7, senior.getCaregiverId());
+        }
+
+        @Override
+        Senior read(ResultSet result) throws SQLException, IllegalValueException {
+            return new JsonAdaptedSenior(result.getString("name"), result.getString("phone"),
+                    result.getString("address"), result.getString("note"), result.getString("risk_tag"),
+                    getInteger(result, "senior_id"), getInteger(result, "caregiver_id"),
+                    result.getBoolean("pinned")).toModelType();
+        }
+    }
+
+    private static class CaregiverTable extends PersonTable<Caregiver> {
+        CaregiverTable() {
+            super("caregivers", "caregiver_id", "name", "phone", "address", "note", "pinned");
+        }
+
+        @Override
+        void bind(PreparedStatement statement, int index, Caregiver caregiver) throws SQLException {
+            setInteger(statement, index, caregiver.getId());
+            statement.setString(index + 1, caregiver.getName().fullName);
+            statement.setString(index + 2, caregiver.getPhone().toString());
+            statement.setString(index + 3, caregiver.getAddress().value);
+            statement.setString(index + 4, caregiver.getNote().value);
+            statement.setBoolean(index + 5, caregiver.getPinned());
+        }
+
+        @Override
+        Caregiver read(ResultSet result) throws SQLException, IllegalValueException {
+            return new JsonAdaptedCaregiver(result.getString("name"), result.getString("phone"),
+                    result.getString("address"), result.getString("note"), getInteger(result, "caregiver_id"),
+                    result.getBoolean("pinned")).toModelType();
+        }
+    }
+}
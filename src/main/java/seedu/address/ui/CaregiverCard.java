@@ -81,7 +81,7 @@ public class CaregiverCard extends UiPart<Region> {
         this.logic = logic;
 
         name.setText(caregiver.getName().fullName);
-        phone.setText(caregiver.getPhone().value);
+        phone.setText(caregiver.getPhone().toString());
         address.setText(caregiver.getAddress().value);
 
         renderNote();
@@ -156,29 +156,13 @@ public class CaregiverCard extends UiPart<Region> {
         }
 
         assignedTitle.setText("Seniors:");
-        var names = logic.getAssignedSeniorNames(caregiver);
+        List<Senior> assigned = logic.getAssignedSeniors(caregiver);
 
         assignedRow.setManaged(true);
         assignedRow.setVisible(true);
-        if (names == null || names.isEmpty()) {
+        if (assigned.isEmpty()) {
             assignedChips.getChildren().setAll(makeAssignedChip("Unassigned", true));
         } else {
-            String cgName = caregiver.getName().fullName;
-            List<Senior> allSeniors = logic.getAllSeniorList();
-            java.util.List<Senior> assigned = new java.util.ArrayList<>();
-
-            for (Senior s : allSeniors) {
-                String assignedCg = logic.getAssignedCaregiverName(s);
-                if (assignedCg != null && assignedCg.equals(cgName)) {
-                    assigned.add(s);
-                }
-            }
-
-            if (assigned.isEmpty()) {
-                assignedChips.getChildren().add(makeAssignedChip("Unassigned", true));
-                return;
-            }
-
             for (Senior s : assigned) {
                 String n = s.getName().toString();
                 if (n.length() > 15) {
@@ -89,7 +89,7 @@ public class SeniorCard extends UiPart<Region> {
         this.logic = logic;
 
         name.setText(senior.getName().fullName);
-        phone.setText(senior.getPhone().value);
+        phone.setText(senior.getPhone().toString());
         address.setText(senior.getAddress().value);
 
         renderNote();
@@ -186,23 +186,7 @@ public class SeniorCard extends UiPart<Region> {
             return;
         }
 
-        Caregiver found = null;
-        String cgName = logic.getAssignedCaregiverName(senior);
-        List<Caregiver> allCaregivers = logic.getAllCaregiverList();
-
-        for (Caregiver c : allCaregivers) {
-
-            String full = null;
-            if (c.getName() != null) {
-                full = c.getName().fullName;
-            }
-
-            if (cgName.equals(full)) {
-                found = c;
-                break;
-            }
-        }
-
+        Caregiver found = logic.getAssignedCaregiver(senior);
         if (found != null) {
             Integer idx = found.getId();
             String n = found.getName().toString();
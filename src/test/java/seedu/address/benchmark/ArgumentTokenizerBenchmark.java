@@ -0,0 +1,53 @@
+package seedu.address.benchmark;
+
+import static seedu.address.logic.parser.CliSyntax.PREFIX_ADDRESS;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_CID;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_NOTE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_PHONE;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
+
+import java.lang.management.ManagementFactory;
+
+import seedu.address.logic.parser.ArgumentTokenizer;
+import seedu.address.logic.parser.Prefix;
+
+/**
+ * Measures the time and heap allocation of {@link ArgumentTokenizer#tokenize(String, Prefix...)} on a typical
+ * add-senior argument string.
+ */
+public class ArgumentTokenizerBenchmark {
+
+    private static final String ARGS = " n/Amy Bee p/11111111 a/Block 312, Amy Street 1 t/High Risk "
+            + "nt/Trained in physiotherapy c/3";
+    private static final Prefix[] PREFIXES = {
+        PREFIX_NAME, PREFIX_PHONE, PREFIX_ADDRESS, PREFIX_TAG, PREFIX_NOTE, PREFIX_CID
+    };
+    private static final int WARMUP_ITERATIONS = 200_000;
+    private static final int MEASURED_ITERATIONS = 1_000_000;
+
+    public static void main(String[] args) {
+        com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        long threadId = Thread.currentThread().getId();
+
+        int sink = run(WARMUP_ITERATIONS);
+
+        long bytesBefore = threads.getThreadAllocatedBytes(threadId);
+        long nanosBefore = System.nanoTime();
+        sink += run(MEASURED_ITERATIONS);
+        long nanos = System.nanoTime() - nanosBefore;
+        long bytes = threads.getThreadAllocatedBytes(threadId) - bytesBefore;
+
+        System.out.printf("tokenize: %.1f ns/op, %d bytes/op (checksum %d)%n",
+                (double) nanos / MEASURED_ITERATIONS, bytes / MEASURED_ITERATIONS, sink);
+    }
+
+    private static int run(int iterations) {
+        int sink = 0;
+        for (int i = 0; i < iterations; i++) {
+            sink += ArgumentTokenizer.tokenize(ARGS, PREFIXES).getPreamble().length();
+        }
+        return sink;
+    }
+}
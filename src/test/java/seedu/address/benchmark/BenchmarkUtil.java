@@ -0,0 +1,19 @@
+package seedu.address.benchmark;
+
+import java.util.Arrays;
+
+/**
+ * A utility class for the benchmarks.
+ */
+public class BenchmarkUtil {
+
+    /**
+     * Returns the median of {@code values}, which is less affected than the mean by a round slowed down by the garbage
+     * collector or the JIT compiler.
+     */
+    public static double median(long[] values) {
+        long[] sorted = values.clone();
+        Arrays.sort(sorted);
+        return sorted[sorted.length / 2];
+    }
+}
@@ -0,0 +1,74 @@
+package seedu.address.benchmark;
+
+import static seedu.address.benchmark.BenchmarkUtil.median;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.logic.parser.AddSeniorCommandParser;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Senior;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.testutil.SeniorBuilder;
+
+/**
+ * Measures the throughput of the paths that validate person fields: loading a whole JSON data file, which converts
+ * every stored record into a model person, and parsing add-senior commands.
+ */
+public class FieldValidationBenchmark {
+
+    private static final int SENIOR_COUNT = 100_000;
+    private static final int COMMAND_COUNT = 10_000;
+    private static final int WARMUP_ROUNDS = 5;
+    private static final int MEASURED_ROUNDS = 9;
+
+    public static void main(String[] args) throws Exception {
+        List<Senior> seniors = createSeniors();
+        AddressBook addressBook = new AddressBook();
+        seniors.forEach(addressBook::addSenior);
+        List<String> commands = new ArrayList<>();
+        for (int i = 0; i < COMMAND_COUNT; i++) {
+            Senior senior = seniors.get(i);
+            commands.add(" n/" + senior.getName() + " p/" + senior.getPhone() + " a/" + senior.getAddress()
+                    + " t/" + (i % 2 == 0 ? "High Risk" : "lr") + " nt/" + senior.getNote());
+        }
+        Path filePath = Files.createTempDirectory("benchmark").resolve("addressbook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath, true);
+        storage.saveAddressBook(addressBook);
+        AddSeniorCommandParser parser = new AddSeniorCommandParser();
+
+        long[] loadNanos = new long[MEASURED_ROUNDS];
+        long[] parseNanos = new long[MEASURED_ROUNDS];
+        int sink = 0;
+        for (int round = -WARMUP_ROUNDS; round < MEASURED_ROUNDS; round++) {
+            long start = System.nanoTime();
+            sink += storage.readAddressBook().get().getSeniorList().size();
+            long loaded = System.nanoTime();
+            for (String command : commands) {
+                sink += parser.parse(command).hashCode();
+            }
+            long parsed = System.nanoTime();
+            if (round >= 0) {
+                loadNanos[round] = loaded - start;
+                parseNanos[round] = parsed - loaded;
+            }
+        }
+        System.out.printf("load:    %,.0f records/s (%.1f ms for %,d seniors)%n",
+                SENIOR_COUNT / (median(loadNanos) / 1e9), median(loadNanos) / 1e6, SENIOR_COUNT);
+        System.out.printf("parse:   %,.0f commands/s (checksum %d)%n",
+                COMMAND_COUNT / (median(parseNanos) / 1e9), sink);
+    }
+
+    private static List<Senior> createSeniors() {
+        List<Senior> seniors = new ArrayList<>();
+        for (int i = 1; i <= SENIOR_COUNT; i++) {
+            seniors.add(new SeniorBuilder().withName("Senior " + i).withPhone(String.valueOf(80000000 + i))
+                    .withAddress("Blk " + (i % 500) + ", Jurong West Ave 6, #08-" + (i % 100))
+                    .withNote(i % 3 == 0 ? "Needs a wheelchair" : "").withRiskTag(i % 2 == 0 ? "HR" : "LR")
+                    .withSeniorId(i).withCaregiverId(null).build());
+        }
+        return seniors;
+    }
+}
@@ -0,0 +1,104 @@
+package seedu.address.benchmark;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Note;
+import seedu.address.model.person.Senior;
+import seedu.address.model.person.Tag;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.testutil.SeniorBuilder;
+
+/**
+ * Reports the heap saved by sharing equal {@code Tag}, {@code Address} and {@code Note} objects across the seniors of
+ * a large address book loaded from JSON. For each type, the loaded seniors are copied with a fresh object and string
+ * for every value of that type, as a load without interning would create, and the heap taken by those copies is
+ * compared with copies that keep the shared values.
+ */
+public class InternPoolMemoryReport {
+
+    private static final int SENIOR_COUNT = 100_000;
+    private static final int BLOCK_COUNT = 2_000;
+    private static final String[] NOTES = {"", "", "", "Needs a wheelchair", "Lives alone", "Has dementia"};
+
+    public static void main(String[] args) throws Exception {
+        Path filePath = Files.createTempDirectory("report").resolve("addressbook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath, true);
+        storage.saveAddressBook(createAddressBook());
+        List<Senior> loaded = new ArrayList<>(storage.readAddressBook().get().getSeniorList());
+
+        long sharedCopyBytes = measureCopies(loaded, senior -> copy(senior, senior.getAddress(), senior.getNote(),
+                senior.getRiskTag()));
+        System.out.printf("%-8s %8s %12s %14s %10s%n", "type", "distinct", "references", "bytes saved", "per senior");
+        report("Tag", loaded, Senior::getRiskTag, measureCopies(loaded, senior -> copy(senior, senior.getAddress(),
+                senior.getNote(), new Tag(fresh(senior.getRiskTag().tagName)))) - sharedCopyBytes);
+        report("Address", loaded, Senior::getAddress, measureCopies(loaded, senior -> copy(senior,
+                new Address(fresh(senior.getAddress().value)), senior.getNote(), senior.getRiskTag()))
+                - sharedCopyBytes);
+        report("Note", loaded, Senior::getNote, measureCopies(loaded, senior -> copy(senior, senior.getAddress(),
+                new Note(fresh(senior.getNote().value)), senior.getRiskTag())) - sharedCopyBytes);
+    }
+
+    private static AddressBook createAddressBook() {
+        AddressBook addressBook = new AddressBook();
+        for (int i = 1; i <= SENIOR_COUNT; i++) {
+            // Every block is home to many seniors, who share its address
+            addressBook.addSenior(new SeniorBuilder().withName("Senior " + i)
+                    .withPhone(String.valueOf(80000000 + i))
+                    .withAddress("Blk " + (i % BLOCK_COUNT) + ", Jurong West Street 61")
+                    .withNote(NOTES[i % NOTES.length]).withRiskTag(i % 3 == 0 ? "HR" : i % 3 == 1 ? "MR" : "LR")
+                    .withSeniorId(i).withCaregiverId(null).build());
+        }
+        return addressBook;
+    }
+
+    private static void report(String type, List<Senior> seniors, Function<Senior, ?> field, long bytesSaved) {
+        Set<Object> distinct = Collections.newSetFromMap(new IdentityHashMap<>());
+        seniors.forEach(senior -> distinct.add(field.apply(senior)));
+        System.out.printf("%-8s %,8d %,12d %,14d %10.1f%n", type, distinct.size(), seniors.size(), bytesSaved,
+                (double) bytesSaved / seniors.size());
+    }
+
+    /**
+     * Returns the heap taken by a copy of each of {@code seniors} made by {@code copier}.
+     */
+    private static long measureCopies(List<Senior> seniors, Function<Senior, Senior> copier) throws Exception {
+        long before = usedHeap();
+        List<Senior> copies = new ArrayList<>(seniors.size());
+        seniors.forEach(senior -> copies.add(copier.apply(senior)));
+        long after = usedHeap();
+        if (copies.size() != seniors.size()) {
+            throw new AssertionError();
+        }
+        return after - before;
+    }
+
+    private static Senior copy(Senior senior, Address address, Note note, Tag riskTag) {
+        return new Senior(senior.getName(), senior.getPhone(), address, riskTag, note, senior.getCaregiverId(),
+                senior.getId(), senior.getPinned());
+    }
+
+    /**
+     * Returns a copy of {@code value} with its own backing array, like a string freshly read from a data file.
+     */
+    private static String fresh(String value) {
+        return new String(value.toCharArray());
+    }
+
+    private static long usedHeap() throws InterruptedException {
+        Runtime runtime = Runtime.getRuntime();
+        for (int i = 0; i < 5; i++) {
+            System.gc();
+            Thread.sleep(50);
+        }
+        return runtime.totalMemory() - runtime.freeMemory();
+    }
+}
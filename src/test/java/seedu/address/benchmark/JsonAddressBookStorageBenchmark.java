@@ -0,0 +1,76 @@
+package seedu.address.benchmark;
+
+import static seedu.address.benchmark.BenchmarkUtil.median;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Caregiver;
+import seedu.address.model.person.Senior;
+import seedu.address.testutil.CaregiverBuilder;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.testutil.SeniorBuilder;
+
+/**
+ * Compares the save and load latency and the file size of plain and gzip-compressed JSON data files at several
+ * address book sizes. On a network drive the file size matters most, as every byte saved is a byte not sent over the
+ * network.
+ */
+public class JsonAddressBookStorageBenchmark {
+
+    private static final int[] SENIOR_COUNTS = {1_000, 10_000, 100_000};
+    private static final int SENIORS_PER_CAREGIVER = 10;
+    private static final int WARMUP_ROUNDS = 3;
+    private static final int MEASURED_ROUNDS = 7;
+
+    public static void main(String[] args) throws Exception {
+        Path directory = Files.createTempDirectory("benchmark");
+        for (int seniorCount : SENIOR_COUNTS) {
+            AddressBook addressBook = createAddressBook(seniorCount);
+            Path plainPath = directory.resolve("addressbook" + seniorCount + ".json");
+            measure("json", addressBook, plainPath);
+            measure("json.gz", addressBook, JsonAddressBookStorage.getCompressedFilePath(plainPath));
+        }
+    }
+
+    private static void measure(String format, AddressBook addressBook, Path filePath) throws Exception {
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath, true);
+        long[] saveNanos = new long[MEASURED_ROUNDS];
+        long[] loadNanos = new long[MEASURED_ROUNDS];
+        int sink = 0;
+        for (int round = -WARMUP_ROUNDS; round < MEASURED_ROUNDS; round++) {
+            long start = System.nanoTime();
+            storage.saveAddressBook(addressBook);
+            long saved = System.nanoTime();
+            sink += storage.readAddressBook().get().getSeniorList().size();
+            long loaded = System.nanoTime();
+            if (round >= 0) {
+                saveNanos[round] = saved - start;
+                loadNanos[round] = loaded - saved;
+            }
+        }
+        System.out.printf("%7s %,7d seniors: %,11d bytes, save %7.1f ms, load %7.1f ms (checksum %d)%n", format,
+                addressBook.getSeniorList().size(), Files.size(filePath), median(saveNanos) / 1e6,
+                median(loadNanos) / 1e6, sink);
+    }
+
+    private static AddressBook createAddressBook(int seniorCount) {
+        AddressBook addressBook = new AddressBook();
+        int caregiverCount = seniorCount / SENIORS_PER_CAREGIVER;
+        for (int i = 1; i <= caregiverCount; i++) {
+            Caregiver caregiver = new CaregiverBuilder().withName("Caregiver " + i)
+                    .withPhone(String.valueOf(90000000 + i)).withAddress("Blk " + i + ", Clementi Ave 3, #02-" + i)
+                    .withNote("Available on weekdays").withCaregiverId(i).build();
+            addressBook.addCaregiver(caregiver);
+        }
+        for (int i = 1; i <= seniorCount; i++) {
+            Senior senior = new SeniorBuilder().withName("Senior " + i).withPhone(String.valueOf(80000000 + i))
+                    .withAddress("Blk " + (i % 500) + ", Jurong West Ave 6, #08-" + (i % 100))
+                    .withNote(i % 3 == 0 ? "Needs a wheelchair" : "").withRiskTag(i % 2 == 0 ? "HR" : "LR")
+                    .withSeniorId(i).withCaregiverId(caregiverCount == 0 ? null : 1 + i % caregiverCount).build();
+            addressBook.addSenior(senior);
+        }
+        return addressBook;
+    }
+}
@@ -0,0 +1,6 @@
+/**
+ * Hand-run measurements of the app's hot paths, such as loading and saving large data files and parsing commands.
+ * Each class is run through its {@code main} method and prints its results. None of them are part of the test suite,
+ * and their numbers are only comparable between runs on the same machine.
+ */
+package seedu.address.benchmark;
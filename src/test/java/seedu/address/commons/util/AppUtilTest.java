@@ -1,5 +1,6 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -33,4 +34,17 @@ public class AppUtilTest {
         String errorMessage = "error message";
         assertThrows(IllegalArgumentException.class, errorMessage, () -> AppUtil.checkArgument(false, errorMessage));
     }
+
+    @Test
+    public void construct_validArgument_returnsConstructedValue() throws Exception {
+        Integer value = AppUtil.construct("12", Integer::valueOf, Exception::new);
+        assertEquals(Integer.valueOf(12), value);
+    }
+
+    @Test
+    public void construct_rejectedArgument_throwsGivenException() {
+        String errorMessage = "error message";
+        assertThrows(IllegalStateException.class, errorMessage, () ->
+                AppUtil.construct("twelve", Integer::valueOf, () -> new IllegalStateException(errorMessage)));
+    }
 }
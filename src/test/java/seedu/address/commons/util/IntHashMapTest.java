@@ -0,0 +1,84 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class IntHashMapTest {
+
+    private final IntHashMap<String> map = new IntHashMap<>();
+
+    @Test
+    public void get_absentKey_returnsNull() {
+        assertNull(map.get(1));
+        assertFalse(map.containsKey(1));
+        assertTrue(map.isEmpty());
+    }
+
+    @Test
+    public void put_newAndExistingKey_returnsPreviousValue() {
+        assertNull(map.put(1, "a"));
+        assertEquals("a", map.put(1, "b"));
+        assertEquals("b", map.get(1));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void put_nullValue_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> map.put(1, null));
+    }
+
+    @Test
+    public void put_negativeAndZeroKeys_success() {
+        map.put(0, "zero");
+        map.put(-5, "minus five");
+        assertEquals("zero", map.get(0));
+        assertEquals("minus five", map.get(-5));
+    }
+
+    @Test
+    public void putAndRemove_manyKeys_keepsAllRemainingMappings() {
+        for (int i = 0; i < 1000; i++) {
+            map.put(i, "v" + i);
+        }
+        for (int i = 0; i < 1000; i += 2) {
+            assertEquals("v" + i, map.remove(i));
+        }
+        assertEquals(500, map.size());
+        for (int i = 0; i < 1000; i++) {
+            if (i % 2 == 0) {
+                assertNull(map.get(i));
+            } else {
+                assertEquals("v" + i, map.get(i));
+            }
+        }
+    }
+
+    @Test
+    public void remove_absentKey_returnsNull() {
+        map.put(1, "a");
+        assertNull(map.remove(2));
+        assertEquals(1, map.size());
+    }
+
+    @Test
+    public void computeIfAbsent_presentAndAbsentKey() {
+        map.put(1, "a");
+        assertEquals("a", map.computeIfAbsent(1, k -> "other"));
+        assertEquals("7", map.computeIfAbsent(7, Integer::toString));
+        assertEquals("7", map.get(7));
+    }
+
+    @Test
+    public void clear_removesAllMappings() {
+        map.put(1, "a");
+        map.put(2, "b");
+        map.clear();
+        assertTrue(map.isEmpty());
+        assertNull(map.get(1));
+    }
+}
@@ -45,6 +45,43 @@ public class StringUtilTest {
         assertTrue(StringUtil.isNonZeroUnsignedInteger("10"));
     }
 
+    //---------------- Tests for isSingleLine and isAsciiDigits --------------------------------------
+
+    @Test
+    public void isSingleLine() {
+        assertThrows(NullPointerException.class, () -> StringUtil.isSingleLine(null));
+
+        // EP: line terminators anywhere in the string
+        assertFalse(StringUtil.isSingleLine("\n"));
+        assertFalse(StringUtil.isSingleLine("Blk 1\r"));
+        assertFalse(StringUtil.isSingleLine("Blk\u0085 1"));
+        assertFalse(StringUtil.isSingleLine("\u2028Blk 1"));
+        assertFalse(StringUtil.isSingleLine("Blk\u2029"));
+
+        // EP: no line terminators, should return true
+        assertTrue(StringUtil.isSingleLine("")); // Boundary value
+        assertTrue(StringUtil.isSingleLine("Blk 1,\tJurong West #08-12 \u00e9"));
+    }
+
+    @Test
+    public void isAsciiDigits() {
+        assertThrows(NullPointerException.class, () -> StringUtil.isAsciiDigits(null));
+
+        // EP: empty and non-digit strings
+        assertFalse(StringUtil.isAsciiDigits("")); // Boundary value
+        assertFalse(StringUtil.isAsciiDigits("1 0"));
+        assertFalse(StringUtil.isAsciiDigits("+1"));
+        assertFalse(StringUtil.isAsciiDigits("12a"));
+
+        // EP: digits outside ASCII, e.g. Arabic-Indic and fullwidth digits
+        assertFalse(StringUtil.isAsciiDigits("\u0661\u0662\u0663"));
+        assertFalse(StringUtil.isAsciiDigits("\uff11\uff12\uff13"));
+
+        // EP: ASCII digits, should return true
+        assertTrue(StringUtil.isAsciiDigits("0")); // Boundary value
+        assertTrue(StringUtil.isAsciiDigits("0123456789"));
+    }
+
 
     //---------------- Tests for containsWordIgnoreCase --------------------------------------
 
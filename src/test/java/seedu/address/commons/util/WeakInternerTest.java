@@ -0,0 +1,60 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+
+public class WeakInternerTest {
+
+    private final AtomicInteger created = new AtomicInteger();
+    private final WeakInterner<String, Holder> interner = new WeakInterner<>(key -> {
+        if (key.isEmpty()) {
+            throw new IllegalArgumentException("empty");
+        }
+        created.incrementAndGet();
+        return new Holder(key);
+    });
+
+    @Test
+    public void intern_equalKeys_returnsSameInstance() {
+        Holder first = interner.intern(new String("Blk 1"));
+        Holder second = interner.intern(new String("Blk 1"));
+        Holder other = interner.intern("Blk 2");
+
+        assertSame(first, second);
+        assertFalse(first == other);
+        assertEquals(2, created.get());
+        assertEquals(2, interner.size());
+    }
+
+    @Test
+    public void intern_factoryThrows_nothingPooled() {
+        assertThrows(IllegalArgumentException.class, () -> interner.intern(""));
+        assertEquals(0, interner.size());
+    }
+
+    @Test
+    public void intern_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> interner.intern(null));
+    }
+
+    @Test
+    public void intern_clearedReference_createsNewValue() {
+        Holder first = interner.intern(new String("Blk 1"));
+        interner.clearReference("Blk 1");
+
+        Holder second = interner.intern(new String("Blk 1"));
+        assertFalse(first == second);
+        assertEquals(first, second);
+        assertSame(second, interner.intern("Blk 1"));
+        assertEquals(2, created.get());
+        assertEquals(1, interner.size());
+    }
+
+    private record Holder(String key) {}
+}
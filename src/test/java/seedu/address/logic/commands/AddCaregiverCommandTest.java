@@ -59,7 +59,7 @@ public class AddCaregiverCommandTest {
         model.addCaregiver(TypicalPersons.BENSON.withId(1));
 
         Caregiver duplicate = new Caregiver(new Name(TypicalPersons.BENSON.getName().fullName),
-                new Phone(TypicalPersons.BENSON.getPhone().value),
+                new Phone(TypicalPersons.BENSON.getPhone().toString()),
                 TypicalPersons.BENSON.getAddress(), new Note(""), null, false);
         AddCaregiverCommand command = new AddCaregiverCommand(duplicate);
         assertCommandFailure(command, model, AddCaregiverCommand.MESSAGE_DUPLICATE_CAREGIVER);
@@ -79,7 +79,7 @@ public class AddSeniorCommandTest {
         String expectedMessage = String.format(AddSeniorCommand.MESSAGE_SUCCESS, Messages.formatSenior(senior));
         Model expectedModel = new ModelManager(new AddressBook(), new UserPrefs());
         expectedModel.addCaregiver(caregiver.withId(1));
-        expectedModel.addSenior(senior.withId(1).withCaregiver(caregiver.withId(1)));
+        expectedModel.addSenior(senior.withId(1).withCaregiverId(1));
         expectedModel.updateFilteredCaregiverList(Model.PREDICATE_SHOW_ALL_PERSONS);
         expectedModel.updateFilteredSeniorList(Model.PREDICATE_SHOW_ALL_PERSONS);
 
@@ -45,10 +45,10 @@ public class AssignCommandTest {
 
         AddressBook ab = new AddressBook();
 
-        aliceLr = new SeniorBuilder().withName("Alice").withRiskTag("lr").build();
-        bobMr = new SeniorBuilder().withName("Bob").withRiskTag("mr").build();
-        caraHr = new SeniorBuilder().withName("Cara").withRiskTag("hr").build();
-        danLr = new SeniorBuilder().withName("Dan").withRiskTag("lr").build();
+        aliceLr = new SeniorBuilder().withName("Alice").withRiskTag("lr").withCaregiverId(null).build();
+        bobMr = new SeniorBuilder().withName("Bob").withRiskTag("mr").withCaregiverId(null).build();
+        caraHr = new SeniorBuilder().withName("Cara").withRiskTag("hr").withCaregiverId(null).build();
+        danLr = new SeniorBuilder().withName("Dan").withRiskTag("lr").withCaregiverId(null).build();
 
         cgrElsa = new CaregiverBuilder().withName("Elsa").build();
         cgrFaith = new CaregiverBuilder().withName("Faith").build();
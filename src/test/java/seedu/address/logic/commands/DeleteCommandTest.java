@@ -9,16 +9,22 @@ import static seedu.address.testutil.TypicalIndexes.ID_NEGATIVE_INVALID_PERSON;
 import static seedu.address.testutil.TypicalIndexes.ID_ONE_PERSON;
 import static seedu.address.testutil.TypicalIndexes.ID_THIRTEEN_PERSON;
 import static seedu.address.testutil.TypicalIndexes.ID_TWO_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.Messages;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Caregiver;
 import seedu.address.model.person.Senior;
+import seedu.address.testutil.CaregiverBuilder;
+import seedu.address.testutil.SeniorBuilder;
 import seedu.address.testutil.TestUtil;
 
 /**
@@ -94,6 +100,20 @@ public class DeleteCommandTest {
         assertCommandSuccess(deleteCommand, model, expectedMessage, expectedModel);
     }
 
+    @Test
+    public void execute_caregiverWithAssignedSeniors_unassignsSeniors() throws CommandException {
+        Caregiver caregiver = new CaregiverBuilder(ALICE).withCaregiverId(5).build();
+        Senior senior = new SeniorBuilder(DANIEL).withSeniorId(3).withCaregiver(caregiver).build();
+        Model modelWithAssignment = new ModelManager(new AddressBook(), new UserPrefs());
+        modelWithAssignment.addCaregiver(caregiver);
+        modelWithAssignment.addSenior(senior);
+
+        new DeleteCommand(null, 5).execute(modelWithAssignment);
+
+        assertFalse(modelWithAssignment.getSeniorWithId(3).hasCaregiver());
+        assertTrue(modelWithAssignment.getAssignedSeniors(caregiver).isEmpty());
+    }
+
     @Test
     public void execute_invalidNegativeCaregiverIndex_throwsCommandException() {
         DeleteCommand deleteCommand = new DeleteCommand(null, ID_NEGATIVE_INVALID_PERSON);
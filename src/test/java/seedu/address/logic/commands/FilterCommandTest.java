@@ -8,7 +8,7 @@ import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
 
 import java.util.Collections;
 import java.util.List;
-import java.util.function.Predicate;
+import java.util.Set;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -17,8 +17,8 @@ import seedu.address.model.AddressBook;
 import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
-import seedu.address.model.person.Person;
 import seedu.address.model.person.PersonHasAnyTagPredicate;
+import seedu.address.model.person.RiskLevel;
 import seedu.address.model.person.Senior;
 import seedu.address.testutil.SeniorBuilder;
 
@@ -52,19 +52,16 @@ public class FilterCommandTest {
 
     @Test
     public void equals() {
-        var p1 = new PersonHasAnyTagPredicate(List.of("lr"));
-        var p2 = new PersonHasAnyTagPredicate(List.of("mr"));
-        var p3 = new PersonHasAnyTagPredicate(List.of("hr"));
-
-        FilterCommand c1 = new FilterCommand(p1);
-        FilterCommand c2 = new FilterCommand(p2);
-        FilterCommand c3 = new FilterCommand(p3);
+        FilterCommand c1 = new FilterCommand(Set.of(RiskLevel.LR));
+        FilterCommand c2 = new FilterCommand(Set.of(RiskLevel.MR));
+        FilterCommand c3 = new FilterCommand(Set.of(RiskLevel.LR, RiskLevel.HR));
 
         assertTrue(c1.equals(c1)); // same object
-        assertTrue(c1.equals(new FilterCommand(p1))); // same values
+        assertTrue(c1.equals(new FilterCommand(Set.of(RiskLevel.LR)))); // same values
+        assertTrue(c3.equals(new FilterCommand(Set.of(RiskLevel.HR, RiskLevel.LR)))); // same values, other order
         assertFalse(c1.equals(1)); // different type
         assertFalse(c1.equals(null)); // null
-        assertFalse(c1.equals(c2)); // different predicate
+        assertFalse(c1.equals(c2)); // different risk levels
         assertFalse(c1.equals(c3));
     }
 
@@ -72,7 +69,7 @@ public class FilterCommandTest {
     public void execute_zeroMatches_noPersonFound() {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 0);
         var predicate = new PersonHasAnyTagPredicate(List.of("unknown")); // tag that nobody has
-        FilterCommand command = new FilterCommand(predicate);
+        FilterCommand command = new FilterCommand(Set.of());
 
         expectedModel.updateFilteredSeniorList(predicate);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
@@ -83,7 +80,7 @@ public class FilterCommandTest {
     public void execute_singleTag_filtersOne() {
         String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 1);
         var predicate = new PersonHasAnyTagPredicate(List.of("lr"));
-        FilterCommand command = new FilterCommand(predicate);
+        FilterCommand command = new FilterCommand(Set.of(RiskLevel.LR));
 
         expectedModel.updateFilteredSeniorList(predicate);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
@@ -94,26 +91,33 @@ public class FilterCommandTest {
 
     @Test
     public void execute_multipleTags_orAcrossTags() {
-        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
-        Predicate<Person> predicate =
-                new PersonHasAnyTagPredicate(List.of("lr"))
-                        .or(new PersonHasAnyTagPredicate(List.of("hr")));
-        FilterCommand command = new FilterCommand(predicate);
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        var predicate = new PersonHasAnyTagPredicate(List.of("lr", "hr"));
+        FilterCommand command = new FilterCommand(Set.of(RiskLevel.LR, RiskLevel.HR));
 
         expectedModel.updateFilteredSeniorList(predicate);
         assertCommandSuccess(command, model, expectedMessage, expectedModel);
 
-        // Should contain Alice(lr) and Cara(hr) in insertion order
-        assertEquals(2, model.getFilteredSeniorList().size());
-        assertEquals("Alice", model.getFilteredSeniorList().get(0).getName().fullName);
-        assertEquals("Cara", model.getFilteredSeniorList().get(1).getName().fullName);
+        // Should contain Alice(lr), Cara(hr) and Dan(high risk) in insertion order
+        assertEquals(List.of(aliceLr, caraHr, danFriend), model.getFilteredSeniorList());
+    }
+
+    @Test
+    public void execute_riskLabelAndCode_sameBucket() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        var predicate = new PersonHasAnyTagPredicate(List.of("hr"));
+        FilterCommand command = new FilterCommand(Set.of(RiskLevel.HR));
+
+        expectedModel.updateFilteredSeniorList(predicate);
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(List.of(caraHr, danFriend), model.getFilteredSeniorList());
+        assertEquals(2, model.countSeniorsWithRisk(RiskLevel.HR));
     }
 
     @Test
     public void toStringMethod() {
-        var predicate = new PersonHasAnyTagPredicate(List.of("lr"));
-        var cmd = new FilterCommand(predicate);
-        String expected = FilterCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        var cmd = new FilterCommand(Set.of(RiskLevel.LR));
+        String expected = FilterCommand.class.getCanonicalName() + "{riskLevels=[LR]}";
         assertEquals(expected, cmd.toString());
     }
 }
@@ -5,12 +5,17 @@ import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.Messages.MESSAGE_PERSONS_LISTED_OVERVIEW;
 import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.FIONA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
@@ -18,6 +23,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 
 /**
  * Contains integration tests (interaction with the Model) for {@code FindCommand}.
@@ -51,6 +57,9 @@ public class FindCommandTest {
 
         // different person -> returns false
         assertFalse(findFirstCommand.equals(findSecondCommand));
+
+        // different mode -> returns false
+        assertFalse(findFirstCommand.equals(new FindCommand(firstPredicate, true)));
     }
 
     @Test
@@ -75,11 +84,39 @@ public class FindCommandTest {
         assertEquals(Arrays.asList(ELLE, FIONA), model.getFilteredSeniorList());
     }
 
+    @Test
+    public void execute_fuzzyKeywords_closestPersonsFound() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 2);
+        FindCommand command = new FindCommand(preparePredicate("Kurz"), true);
+        expectedModel.updateFilteredSeniorList(preparePredicate("Kunz"));
+        expectedModel.updateFilteredCaregiverList(preparePredicate("Kurz"));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(Arrays.asList(FIONA), model.getFilteredSeniorList());
+        assertEquals(Arrays.asList(CARL), model.getFilteredCaregiverList());
+    }
+
+    @Test
+    public void execute_fuzzyKeywords_closestPersonsListedFirst() {
+        String expectedMessage = String.format(MESSAGE_PERSONS_LISTED_OVERVIEW, 3);
+        FindCommand command = new FindCommand(preparePredicate("Meyer"), true);
+        List<Person> expectedSeniors = Arrays.asList(ELLE, DANIEL);
+        expectedModel.updateFilteredSeniorList(expectedSeniors::contains,
+                Comparator.comparing(expectedSeniors::indexOf));
+        expectedModel.updateFilteredCaregiverList(preparePredicate("Benson"));
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+        assertEquals(expectedSeniors, model.getFilteredSeniorList());
+        assertEquals(Arrays.asList(BENSON), model.getFilteredCaregiverList());
+
+        // a later filter lists persons in address book order again
+        model.updateFilteredSeniorList(expectedSeniors::contains);
+        assertEquals(Arrays.asList(DANIEL, ELLE), model.getFilteredSeniorList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
         FindCommand findCommand = new FindCommand(predicate);
-        String expected = FindCommand.class.getCanonicalName() + "{predicate=" + predicate + "}";
+        String expected = FindCommand.class.getCanonicalName() + "{predicate=" + predicate + ", isFuzzy=false}";
         assertEquals(expected, findCommand.toString());
     }
 
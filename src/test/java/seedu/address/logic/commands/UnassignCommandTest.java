@@ -147,7 +147,7 @@ public class UnassignCommandTest {
 
         // Case B: all seniors have caregivers; pick a caregiver different from the senior's current one
         for (Senior s : seniors) {
-            Integer current = s.getCaregiver().getId();
+            Integer current = s.getCaregiverId();
             for (Caregiver c : caregivers) {
                 if (!c.getId().equals(current)) {
                     Integer seniorId = s.getId();
@@ -247,8 +247,8 @@ public class UnassignCommandTest {
      */
     private Optional<Pair<Senior, Caregiver>> pickCurrentlyAssignedPair(Model m) {
         for (Senior s : m.getFilteredSeniorList()) {
-            if (s.hasCaregiver()) {
-                Caregiver c = s.getCaregiver();
+            Caregiver c = m.getAssignedCaregiver(s);
+            if (c != null) {
                 return Optional.of(new Pair<>(s, c));
             }
         }
@@ -10,6 +10,7 @@ import static seedu.address.testutil.TypicalIndexes.ID_ONE_PERSON;
 
 import java.util.Arrays;
 import java.util.List;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
@@ -28,7 +29,7 @@ import seedu.address.logic.commands.ListCommand;
 import seedu.address.logic.commands.UnassignCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
-import seedu.address.model.person.PersonHasAnyTagPredicate;
+import seedu.address.model.person.RiskLevel;
 import seedu.address.model.person.Senior;
 import seedu.address.testutil.EditPersonDescriptorBuilder;
 import seedu.address.testutil.PersonUtil;
@@ -113,7 +114,7 @@ public class AddressBookParserTest {
     public void parseCommand_filterSingleTag() throws Exception {
         AddressBookParser parser = new AddressBookParser();
         FilterCommand command = (FilterCommand) parser.parseCommand("filter t/lr");
-        FilterCommand expected = new FilterCommand(new PersonHasAnyTagPredicate(List.of("lr")));
+        FilterCommand expected = new FilterCommand(Set.of(RiskLevel.LR));
         assertEquals(expected, command);
     }
 
@@ -122,7 +123,7 @@ public class AddressBookParserTest {
         AddressBookParser parser = new AddressBookParser();
         // First t/ is empty on purpose to cover the "trim -> empty -> continue" branch in your parser
         FilterCommand command = (FilterCommand) parser.parseCommand("filter t/   t/LR t/hr  ");
-        FilterCommand expected = new FilterCommand(new PersonHasAnyTagPredicate(List.of("lr", "hr")));
+        FilterCommand expected = new FilterCommand(Set.of(RiskLevel.LR, RiskLevel.HR));
         assertEquals(expected, command);
     }
 
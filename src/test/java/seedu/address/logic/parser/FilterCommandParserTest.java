@@ -3,13 +3,13 @@ package seedu.address.logic.parser;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
-import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.logic.commands.FilterCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
-import seedu.address.model.person.PersonHasAnyTagPredicate;
+import seedu.address.model.person.RiskLevel;
 
 public class FilterCommandParserTest {
 
@@ -18,14 +18,14 @@ public class FilterCommandParserTest {
     @Test
     public void parseSingleAllowedLowercaseSuccess() throws Exception {
         FilterCommand cmd = parser.parse(" t/lr ");
-        FilterCommand expected = new FilterCommand(new PersonHasAnyTagPredicate(List.of("lr")));
+        FilterCommand expected = new FilterCommand(Set.of(RiskLevel.LR));
         assertEquals(expected, cmd);
     }
 
     @Test
     public void parseMultipleAllowedMixedCaseSuccess() throws Exception {
         FilterCommand cmd = parser.parse(" t/lr t/HR t/mr ");
-        FilterCommand expected = new FilterCommand(new PersonHasAnyTagPredicate(List.of("lr", "hr", "mr")));
+        FilterCommand expected = new FilterCommand(Set.of(RiskLevel.LR, RiskLevel.HR, RiskLevel.MR));
         assertEquals(expected, cmd);
     }
 
@@ -46,7 +46,7 @@ public class FilterCommandParserTest {
         FilterCommandParser parser = new FilterCommandParser();
         // Leading empty tag value then a valid one
         FilterCommand cmd = parser.parse(" t/   t/mr ");
-        FilterCommand expected = new FilterCommand(new PersonHasAnyTagPredicate(List.of("mr")));
+        FilterCommand expected = new FilterCommand(Set.of(RiskLevel.MR));
         assertEquals(expected, cmd);
     }
 
@@ -54,7 +54,7 @@ public class FilterCommandParserTest {
     void parse_blankTagValue() throws Exception {
         // First t/ has only spaces -> triggers `t.isEmpty()` -> `continue;`
         FilterCommand cmd = new FilterCommandParser().parse(" t/   t/mr ");
-        FilterCommand expected = new FilterCommand(new PersonHasAnyTagPredicate(List.of("mr")));
+        FilterCommand expected = new FilterCommand(Set.of(RiskLevel.MR));
         assertEquals(expected, cmd);
     }
 
@@ -69,7 +69,7 @@ public class FilterCommandParserTest {
     void parse_blankTagValueThenValidTag() throws Exception {
         // first t/ is only spaces -> triggers t.isEmpty() -> continue;
         FilterCommand cmd = new FilterCommandParser().parse(" t/   t/mr ");
-        FilterCommand expected = new FilterCommand(new PersonHasAnyTagPredicate(List.of("mr")));
+        FilterCommand expected = new FilterCommand(Set.of(RiskLevel.MR));
         assertEquals(expected, cmd);
     }
 
@@ -31,4 +31,16 @@ public class FindCommandParserTest {
         assertParseSuccess(parser, " \n Alice \n \t Bob  \t", expectedFindCommand);
     }
 
+    @Test
+    public void parse_fuzzyFlag_returnsFuzzyFindCommand() {
+        FindCommand expectedFindCommand =
+                new FindCommand(new NameContainsKeywordsPredicate(Arrays.asList("Alce", "Bo")), true);
+        assertParseSuccess(parser, "--fuzzy Alce Bo", expectedFindCommand);
+        assertParseSuccess(parser, " --FUZZY \n Alce  Bo", expectedFindCommand);
+
+        // flag without keywords
+        assertParseFailure(parser, " --fuzzy ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, FindCommand.MESSAGE_USAGE));
+    }
+
 }
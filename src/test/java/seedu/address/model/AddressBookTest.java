@@ -6,12 +6,16 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
+import java.util.Set;
 
 import org.junit.jupiter.api.Test;
 
@@ -22,6 +26,7 @@ import seedu.address.model.person.Person;
 import seedu.address.model.person.Senior;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.testutil.CaregiverBuilder;
+import seedu.address.testutil.SeniorBuilder;
 
 public class AddressBookTest {
 
@@ -82,6 +87,132 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void hasPhone_phoneOfSeniorOrCaregiver_returnsTrue() {
+        addressBook.addCaregiver(ALICE);
+        addressBook.addSenior(DANIEL);
+        assertTrue(addressBook.hasPhone(ALICE.getPhone()));
+        assertTrue(addressBook.hasPhone(DANIEL.getPhone()));
+        assertFalse(addressBook.hasPhone(BENSON.getPhone()));
+    }
+
+    @Test
+    public void hasPhone_afterRemoveAndEdit_tracksCurrentPhones() {
+        addressBook.addSenior(DANIEL);
+        Senior editedDaniel = new SeniorBuilder(DANIEL).withPhone(BENSON.getPhone().toString()).build();
+        addressBook.setSenior(DANIEL, editedDaniel);
+        assertFalse(addressBook.hasPhone(DANIEL.getPhone()));
+        assertTrue(addressBook.hasPhone(BENSON.getPhone()));
+
+        addressBook.removeSeniors(editedDaniel);
+        assertFalse(addressBook.hasPhone(BENSON.getPhone()));
+    }
+
+    @Test
+    public void hasPhoneOtherThan() {
+        addressBook.addCaregiver(ALICE);
+        assertFalse(addressBook.hasPhoneOtherThan(ALICE.getPhone(), ALICE));
+
+        Senior seniorWithAlicePhone = new SeniorBuilder(DANIEL).withPhone(ALICE.getPhone().toString()).build();
+        assertTrue(addressBook.hasPhoneOtherThan(ALICE.getPhone(), seniorWithAlicePhone));
+
+        // loaded data may share a phone between persons
+        addressBook.addSenior(seniorWithAlicePhone);
+        assertTrue(addressBook.hasPhoneOtherThan(ALICE.getPhone(), ALICE));
+        addressBook.removeCaregiver(ALICE);
+        assertFalse(addressBook.hasPhoneOtherThan(ALICE.getPhone(), seniorWithAlicePhone));
+        assertTrue(addressBook.hasPhone(ALICE.getPhone()));
+    }
+
+    @Test
+    public void getSeniorsAssignedTo_tracksAssignments() {
+        Caregiver caregiver = new CaregiverBuilder(ALICE).withCaregiverId(7).build();
+        Senior assignedDaniel = new SeniorBuilder(DANIEL).withSeniorId(1).withCaregiver(caregiver).build();
+        Senior assignedElle = new SeniorBuilder(ELLE).withSeniorId(2).withCaregiver(caregiver).build();
+        addressBook.addCaregiver(caregiver);
+        addressBook.addSenior(assignedDaniel);
+        addressBook.addSenior(assignedElle);
+        assertEquals(List.of(assignedDaniel, assignedElle), addressBook.getSeniorsAssignedTo(7));
+        assertTrue(addressBook.getSeniorsAssignedTo(8).isEmpty());
+
+        Senior unassignedDaniel = assignedDaniel.withCaregiverId(null);
+        addressBook.setSenior(assignedDaniel, unassignedDaniel);
+        assertEquals(List.of(assignedElle), addressBook.getSeniorsAssignedTo(7));
+
+        addressBook.removeSeniors(assignedElle);
+        assertTrue(addressBook.getSeniorsAssignedTo(7).isEmpty());
+
+        addressBook.resetData(new AddressBook());
+        addressBook.setSeniors(List.of(assignedElle));
+        assertEquals(List.of(assignedElle), addressBook.getSeniorsAssignedTo(7));
+    }
+
+    @Test
+    public void findByName_tracksNameChanges() {
+        addressBook.addSenior(DANIEL);
+        addressBook.addSenior(ELLE);
+        addressBook.addCaregiver(BENSON);
+        assertEquals(Set.of(DANIEL), addressBook.findSeniorsByName(List.of("dAnIeL")));
+        assertEquals(Set.of(DANIEL, ELLE), addressBook.findSeniorsByName(List.of("meier", "Elle", " ")));
+        assertEquals(Set.of(BENSON), addressBook.findCaregiversByName(List.of("Meier")));
+        assertTrue(addressBook.findSeniorsByName(List.of("Mei")).isEmpty());
+
+        Senior renamedDaniel = new SeniorBuilder(DANIEL).withName("Daniel Tan").build();
+        addressBook.setSenior(DANIEL, renamedDaniel);
+        assertTrue(addressBook.findSeniorsByName(List.of("Meier")).isEmpty());
+        assertEquals(Set.of(renamedDaniel), addressBook.findSeniorsByName(List.of("tan")));
+
+        addressBook.removeCaregiver(BENSON);
+        assertTrue(addressBook.findCaregiversByName(List.of("Benson")).isEmpty());
+    }
+
+    @Test
+    public void findSeniorsBySimilarName_ranksClosestFirst() {
+        Senior meyer = new SeniorBuilder(ELLE).withName("Elle Meyer").build();
+        Senior meier = new SeniorBuilder(DANIEL).withName("Daniel Meier").build();
+        addressBook.addSenior(meyer);
+        addressBook.addSenior(meier);
+        assertEquals(List.of(meier, meyer), addressBook.findSeniorsBySimilarName(List.of("meier"), 5));
+        assertEquals(List.of(meier), addressBook.findSeniorsBySimilarName(List.of("meier"), 1));
+        assertEquals(List.of(meier), addressBook.findSeniorsBySimilarName(List.of("Dan"), 5));
+        assertTrue(addressBook.findSeniorsBySimilarName(List.of("xyz"), 5).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> addressBook.findSeniorsBySimilarName(List.of("a"), 0));
+    }
+
+    @Test
+    public void nextSeniorId_continuesAfterHighestIdInData() {
+        addressBook.addSenior(new SeniorBuilder(DANIEL).withSeniorId(5).build());
+        addressBook.addSenior(new SeniorBuilder(ELLE).withSeniorId(3).build());
+        assertEquals(6, addressBook.nextSeniorId());
+    }
+
+    @Test
+    public void resetData_emptyAddressBook_restartsIds() {
+        addressBook.addSenior(new SeniorBuilder(DANIEL).withSeniorId(5).build());
+        addressBook.addCaregiver(new CaregiverBuilder(ALICE).withCaregiverId(4).build());
+        addressBook.resetData(new AddressBook());
+        assertEquals(1, addressBook.nextSeniorId());
+        assertEquals(1, addressBook.nextCaregiverId());
+    }
+
+    @Test
+    public void resetData_staleSequence_continuesAfterHighestId() {
+        AddressBook newData = new AddressBook();
+        newData.addSenior(new SeniorBuilder(DANIEL).withSeniorId(5).build());
+        newData.setSeniorSeq(2);
+        addressBook.setSeniorSeq(10);
+        addressBook.resetData(newData);
+        assertEquals(6, addressBook.nextSeniorId());
+    }
+
+    @Test
+    public void addSenior_duplicate_sequenceUnchanged() {
+        addressBook.addSenior(new SeniorBuilder(DANIEL).withSeniorId(5).build());
+        assertThrows(DuplicatePersonException.class, () ->
+                addressBook.addSenior(new SeniorBuilder(DANIEL).withSeniorId(9).build()));
+        assertEquals(5, addressBook.getSeniorSeq());
+    }
+
     @Test
     public void getPersonList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, () -> addressBook.getSeniorList().remove(0));
@@ -2,11 +2,14 @@ package seedu.address.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -15,8 +18,12 @@ import java.util.Arrays;
 import org.junit.jupiter.api.Test;
 
 import seedu.address.commons.core.GuiSettings;
+import seedu.address.model.person.Caregiver;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Senior;
 import seedu.address.testutil.AddressBookBuilder;
+import seedu.address.testutil.CaregiverBuilder;
+import seedu.address.testutil.SeniorBuilder;
 
 public class ModelManagerTest {
 
@@ -93,6 +100,42 @@ public class ModelManagerTest {
         assertThrows(UnsupportedOperationException.class, () -> modelManager.getFilteredSeniorList().remove(0));
     }
 
+    @Test
+    public void getAssignedCaregiver_caregiverEdited_returnsEditedCaregiver() {
+        Caregiver caregiver = new CaregiverBuilder(ALICE).withCaregiverId(4).build();
+        Senior senior = new SeniorBuilder(DANIEL).withCaregiver(caregiver).build();
+        modelManager.addCaregiver(caregiver);
+        modelManager.addSenior(senior);
+        assertEquals(caregiver, modelManager.getAssignedCaregiver(senior));
+
+        Caregiver editedCaregiver = new CaregiverBuilder(caregiver).withName("Alice Tan").build();
+        modelManager.setCaregiver(caregiver, editedCaregiver);
+        assertEquals(editedCaregiver, modelManager.getAssignedCaregiver(senior));
+        assertEquals("Alice Tan", modelManager.getAssignedCaregiverName(senior));
+    }
+
+    @Test
+    public void getAssignedCaregiver_unassignedSenior_returnsNull() {
+        Senior senior = new SeniorBuilder(DANIEL).withCaregiverId(null).build();
+        modelManager.addSenior(senior);
+        assertNull(modelManager.getAssignedCaregiver(senior));
+        assertNull(modelManager.getAssignedCaregiverName(senior));
+    }
+
+    @Test
+    public void getAddressBookVersion_changesOnlyOnDataChanges() {
+        long initialVersion = modelManager.getAddressBookVersion();
+        modelManager.updateFilteredSeniorList(senior -> false);
+        assertEquals(initialVersion, modelManager.getAddressBookVersion());
+
+        modelManager.addSenior(DANIEL);
+        long versionAfterAdd = modelManager.getAddressBookVersion();
+        assertNotEquals(initialVersion, versionAfterAdd);
+
+        modelManager.allocateSeniorId();
+        assertNotEquals(versionAfterAdd, modelManager.getAddressBookVersion());
+    }
+
     @Test
     public void equals() {
         AddressBook addressBook = new AddressBookBuilder().withCaregiver(ALICE).withCaregiver(BENSON).build();
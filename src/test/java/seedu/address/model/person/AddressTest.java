@@ -1,6 +1,8 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
@@ -24,6 +26,25 @@ public class AddressTest {
         assertTrue(Address.isValidAddress("Leng Inc; 1234 Market St; San Francisco CA 2349879; USA")); // long address
     }
 
+    @Test
+    public void isValidAddress_sameAsValidationRegex() {
+        String[] samples = {"", " ", "a", "9", "peter jack", " peter", "peter ", "peter*", "12345", "911", "91",
+            "123456789012345", "1234567890123456", "9312 1534", "+6591234567", "\u00e9milie", "Zo\u00eb",
+            "\u0661\u0662\u0663", "\uff11\uff12\uff13", "tab\tname", "line\nbreak", "cr\r", "\u0085", "a\u2028b",
+            "Blk 30 Geylang Street 29, #06-40", "_", "a_b"};
+        for (String sample : samples) {
+            assertEquals(sample.matches(Address.VALIDATION_REGEX), Address.isValidAddress(sample), sample);
+        }
+    }
+
+    @Test
+    public void of_equalAddresses_returnsSameInstance() {
+        Address address = Address.of(new String("Blk 456, Den Road, #01-355"));
+        assertSame(address, Address.of(new String("Blk 456, Den Road, #01-355")));
+        assertEquals(new Address("Blk 456, Den Road, #01-355"), address);
+        assertThrows(IllegalArgumentException.class, () -> Address.of("Blk 456\nDen Road"));
+    }
+
     @Test
     public void equals() {
         Address address = new Address("Valid Address");
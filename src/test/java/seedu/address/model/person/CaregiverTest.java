@@ -19,7 +19,7 @@ public class CaregiverTest {
         );
 
         assertEquals("Voon Shu Ting", caregiver.getName().fullName);
-        assertEquals("91234567", caregiver.getPhone().value);
+        assertEquals("91234567", caregiver.getPhone().toString());
         assertEquals("123 Toa Payoh Lorong 3", caregiver.getAddress().value);
         assertEquals("Loves to dance", caregiver.getNote().value);
         assertEquals(1, caregiver.getId());
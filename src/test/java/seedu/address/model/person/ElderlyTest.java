@@ -23,7 +23,7 @@ public class ElderlyTest {
         );
 
         assertEquals("Mr Tan Kah Li Boon", senior.getName().fullName);
-        assertEquals("98887666", senior.getPhone().value);
+        assertEquals("98887666", senior.getPhone().toString());
         assertEquals("456 Kent Ridge Street", senior.getAddress().value);
         assertEquals("Needs wheelchair access", senior.getNote().value);
         assertEquals("MR", senior.getRiskTag().tagName);
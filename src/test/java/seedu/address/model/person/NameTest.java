@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -38,6 +39,17 @@ public class NameTest {
         assertTrue(Name.isValidName("David Roger Jackson Ray Jr 2nd")); // long names
     }
 
+    @Test
+    public void isValidName_sameAsValidationRegex() {
+        String[] samples = {"", " ", "a", "9", "peter jack", " peter", "peter ", "peter*", "12345", "911", "91",
+            "123456789012345", "1234567890123456", "9312 1534", "+6591234567", "\u00e9milie", "Zo\u00eb",
+            "\u0661\u0662\u0663", "\uff11\uff12\uff13", "tab\tname", "line\nbreak", "cr\r", "\u0085", "a\u2028b",
+            "Blk 30 Geylang Street 29, #06-40", "_", "a_b"};
+        for (String sample : samples) {
+            assertEquals(sample.matches(Name.VALIDATION_REGEX), Name.isValidName(sample), sample);
+        }
+    }
+
     @Test
     public void equals() {
         Name name = new Name("Valid Name");
@@ -8,10 +8,12 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_PHONE_BOB;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.BOB;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
 
 import org.junit.jupiter.api.Test;
 
 import seedu.address.testutil.CaregiverBuilder;
+import seedu.address.testutil.SeniorBuilder;
 
 public class PersonTest {
 
@@ -93,4 +95,59 @@ public class PersonTest {
                 + "}{caregiverId=" + ALICE.getId() + "}";
         assertEquals(expected, ALICE.toString());
     }
+
+    @Test
+    public void hasSameFields() {
+        // same values in a different object -> returns true, with the same fingerprint
+        Senior danielCopy = new SeniorBuilder(DANIEL).build();
+        assertTrue(DANIEL.hasSameFields(danielCopy));
+        assertEquals(DANIEL.getFingerprint(), danielCopy.getFingerprint());
+
+        // null -> returns false
+        assertFalse(DANIEL.hasSameFields(null));
+
+        // fields that equals leaves out still count -> returns false
+        Senior pinnedDaniel = DANIEL.withPinned(!DANIEL.getPinned());
+        assertTrue(DANIEL.equals(pinnedDaniel));
+        assertFalse(DANIEL.hasSameFields(pinnedDaniel));
+        assertFalse(DANIEL.hasSameFields(new SeniorBuilder(DANIEL).withRiskTag("LR").build()));
+        assertFalse(DANIEL.hasSameFields(DANIEL.withCaregiverId(null)));
+        assertFalse(ALICE.hasSameFields(new CaregiverBuilder(ALICE).withCaregiverId(ALICE.getId() + 1).build()));
+    }
+
+    @Test
+    public void getAddressAndNote_detailsLoader_loadedOnFirstUseOnly() {
+        int[] loads = new int[1];
+        PersonDetailsLoader detailsLoader = new PersonDetailsLoader() {
+            @Override
+            public Address loadAddress(long detailsKey) {
+                loads[0]++;
+                return detailsKey == 7 ? ALICE.getAddress() : null;
+            }
+
+            @Override
+            public Note loadNote(long detailsKey) {
+                loads[0]++;
+                return detailsKey == 7 ? ALICE.getNote() : null;
+            }
+        };
+        Caregiver lazyAlice = new Caregiver(ALICE.getName(), ALICE.getPhone(), detailsLoader, 7, ALICE.getId(),
+                ALICE.getPinned());
+
+        // identity and hashing need no details
+        assertTrue(lazyAlice.isSamePerson(ALICE));
+        assertEquals(ALICE.hashCode(), lazyAlice.hashCode());
+        assertEquals(0, loads[0]);
+
+        assertEquals(ALICE.getAddress(), lazyAlice.getAddress());
+        assertEquals(ALICE.getNote(), lazyAlice.getNote());
+        assertEquals(2, loads[0]);
+
+        // the loaded details are kept, so comparing, printing and fingerprinting read nothing more
+        assertTrue(lazyAlice.equals(ALICE));
+        assertTrue(lazyAlice.hasSameFields(new CaregiverBuilder(ALICE).build()));
+        assertEquals(ALICE.toString(), lazyAlice.toString());
+        assertEquals(ALICE.getAddress(), lazyAlice.getAddress());
+        assertEquals(2, loads[0]);
+    }
 }
@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -38,6 +39,26 @@ public class PhoneTest {
         assertTrue(Phone.isValidPhone("124293842033123")); // long phone numbers
     }
 
+    @Test
+    public void isValidPhone_sameAsValidationRegex() {
+        String[] samples = {"", " ", "a", "9", "peter jack", " peter", "peter ", "peter*", "12345", "911", "91",
+            "123456789012345", "1234567890123456", "9312 1534", "+6591234567", "\u00e9milie", "Zo\u00eb",
+            "\u0661\u0662\u0663", "\uff11\uff12\uff13", "tab\tname", "line\nbreak", "cr\r", "\u0085", "a\u2028b",
+            "Blk 30 Geylang Street 29, #06-40", "_", "a_b"};
+        for (String sample : samples) {
+            assertEquals(sample.matches(Phone.VALIDATION_REGEX), Phone.isValidPhone(sample), sample);
+        }
+    }
+
+    @Test
+    public void toString_leadingZerosAndLongestNumber_roundTrip() {
+        for (String digits : new String[] {"000", "007", "0091234567", "93121534", "999999999999999"}) {
+            Phone phone = new Phone(digits);
+            assertEquals(digits, phone.toString());
+            assertEquals(digits.length(), phone.length());
+        }
+    }
+
     @Test
     public void equals() {
         Phone phone = new Phone("999");
@@ -56,5 +77,10 @@ public class PhoneTest {
 
         // different values -> returns false
         assertFalse(phone.equals(new Phone("995")));
+
+        // same number with a leading zero -> returns false
+        assertFalse(phone.equals(new Phone("0999")));
+        assertFalse(phone.toPackedValue() == new Phone("0999").toPackedValue());
+        assertEquals(phone.hashCode(), new Phone("999").hashCode());
     }
 }
@@ -2,6 +2,8 @@ package seedu.address.model.person;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_CHARLES;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_CHARLES;
@@ -47,6 +49,21 @@ public class UniquePersonListTest {
         assertTrue(uniqueSeniorList.contains(editedAmy));
     }
 
+    @Test
+    public void contains_personRemovedFromList_returnsFalse() {
+        uniqueSeniorList.add(AMY);
+        uniqueSeniorList.remove(AMY);
+        assertFalse(uniqueSeniorList.contains(AMY));
+    }
+
+    @Test
+    public void contains_afterSetPersonWithDifferentIdentity_tracksEditedPerson() {
+        uniqueSeniorList.add(AMY);
+        uniqueSeniorList.setPerson(AMY, CHARLES);
+        assertFalse(uniqueSeniorList.contains(AMY));
+        assertTrue(uniqueSeniorList.contains(CHARLES));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueSeniorList.add(null));
@@ -127,6 +144,30 @@ public class UniquePersonListTest {
         assertEquals(expectedUniqueSeniorList, uniqueSeniorList);
     }
 
+    @Test
+    public void remove_samePersonWithOtherFields_throwsPersonNotFoundException() {
+        uniqueSeniorList.add(CHARLES);
+        Senior editedCharles = new SeniorBuilder(CHARLES).withAddress(VALID_ADDRESS_CHARLES + " #01-01").build();
+        assertThrows(PersonNotFoundException.class, () -> uniqueSeniorList.remove(editedCharles));
+        assertThrows(PersonNotFoundException.class, () -> uniqueSeniorList.setPerson(editedCharles, AMY));
+    }
+
+    @Test
+    public void setPersonAndRemove_afterEarlierRemoval_useShiftedPositions() {
+        Senior first = new SeniorBuilder().withName("First").withPhone("81111111").build();
+        Senior second = new SeniorBuilder().withName("Second").withPhone("82222222").build();
+        Senior third = new SeniorBuilder().withName("Third").withPhone("83333333").build();
+        uniqueSeniorList.setPersons(List.of(first, second, third));
+
+        uniqueSeniorList.remove(first);
+        uniqueSeniorList.setPerson(third, AMY);
+        assertEquals(List.of(second, AMY), uniqueSeniorList.asUnmodifiableObservableList());
+        uniqueSeniorList.remove(second);
+        uniqueSeniorList.add(third);
+        uniqueSeniorList.remove(AMY);
+        assertEquals(List.of(third), uniqueSeniorList.asUnmodifiableObservableList());
+    }
+
     @Test
     public void setPersons_nullUniquePersonList_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniqueSeniorList.setPersons((UniquePersonList<Senior>) null));
@@ -162,6 +203,72 @@ public class UniquePersonListTest {
         assertThrows(DuplicatePersonException.class, () -> uniqueSeniorList.setPersons(listWithDuplicatePersons));
     }
 
+    @Test
+    public void getById_absentId_returnsNull() {
+        assertNull(uniqueSeniorList.getById(1));
+    }
+
+    @Test
+    public void getById_afterAddSetAndRemove_tracksList() {
+        Senior amy = new SeniorBuilder(AMY).withSeniorId(5).build();
+        uniqueSeniorList.add(amy);
+        assertEquals(amy, uniqueSeniorList.getById(5));
+
+        Senior editedAmy = new SeniorBuilder(amy).withAddress(VALID_ADDRESS_CHARLES).build();
+        uniqueSeniorList.setPerson(amy, editedAmy);
+        assertEquals(editedAmy, uniqueSeniorList.getById(5));
+
+        uniqueSeniorList.remove(editedAmy);
+        assertNull(uniqueSeniorList.getById(5));
+    }
+
+    @Test
+    public void getById_sharedId_returnsFirstInList() {
+        Senior charles = new SeniorBuilder(CHARLES).withSeniorId(1).build();
+        uniqueSeniorList.setPersons(Arrays.asList(AMY, charles));
+        assertEquals(AMY, uniqueSeniorList.getById(1));
+
+        uniqueSeniorList.remove(AMY);
+        assertEquals(charles, uniqueSeniorList.getById(1));
+    }
+
+    @Test
+    public void getById_sharedIdHoldersRemovedAndEdited_tracksFirstHolder() {
+        Senior amy = new SeniorBuilder(AMY).withSeniorId(1).build();
+        Senior charles = new SeniorBuilder(CHARLES).withSeniorId(1).build();
+        Senior dora = new SeniorBuilder().withName("Dora").withPhone("81234567").withSeniorId(1).build();
+        uniqueSeniorList.setPersons(Arrays.asList(amy, charles));
+        uniqueSeniorList.add(dora);
+
+        // Removing a holder that is not indexed keeps the first holder
+        uniqueSeniorList.remove(charles);
+        assertSame(amy, uniqueSeniorList.getById(1));
+        uniqueSeniorList.remove(amy);
+        assertSame(dora, uniqueSeniorList.getById(1));
+        uniqueSeniorList.remove(dora);
+        assertNull(uniqueSeniorList.getById(1));
+
+        // An edit that moves an earlier person onto a shared id takes over the index
+        uniqueSeniorList.setPersons(Arrays.asList(amy, charles));
+        Senior movedCharles = new SeniorBuilder(charles).withSeniorId(3).build();
+        uniqueSeniorList.setPerson(charles, movedCharles);
+        assertSame(amy, uniqueSeniorList.getById(1));
+        assertSame(movedCharles, uniqueSeniorList.getById(3));
+        Senior movedAmy = new SeniorBuilder(amy).withSeniorId(3).build();
+        uniqueSeniorList.setPerson(amy, movedAmy);
+        assertNull(uniqueSeniorList.getById(1));
+        assertSame(movedAmy, uniqueSeniorList.getById(3));
+        uniqueSeniorList.remove(movedAmy);
+        assertSame(movedCharles, uniqueSeniorList.getById(3));
+    }
+
+    @Test
+    public void setPersons_listWithNonAdjacentDuplicatePersons_throwsDuplicatePersonException() {
+        Senior editedAmy = new SeniorBuilder(AMY).withAddress(VALID_ADDRESS_CHARLES).build();
+        List<Senior> listWithDuplicatePersons = Arrays.asList(AMY, CHARLES, editedAmy);
+        assertThrows(DuplicatePersonException.class, () -> uniqueSeniorList.setPersons(listWithDuplicatePersons));
+    }
+
     @Test
     public void asUnmodifiableObservableList_modifyList_throwsUnsupportedOperationException() {
         assertThrows(UnsupportedOperationException.class, ()
@@ -1,9 +1,14 @@
 package seedu.address.model.tag;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.person.RiskLevel;
 import seedu.address.model.person.Tag;
 
 public class TagTest {
@@ -23,6 +28,42 @@ public class TagTest {
     public void isValidTagName() {
         // null tag name
         assertThrows(NullPointerException.class, () -> Tag.isValidTagName(null));
+
+        // invalid tag names
+        assertFalse(Tag.isValidTagName(""));
+        assertFalse(Tag.isValidTagName("high"));
+        assertFalse(Tag.isValidTagName(" hr"));
+
+        // valid tag names
+        assertTrue(Tag.isValidTagName("HR"));
+        assertTrue(Tag.isValidTagName("mr"));
+        assertTrue(Tag.isValidTagName("Low Risk"));
+    }
+
+    @Test
+    public void constructor_labelOrCode_normalizedToCode() {
+        assertEquals("HR", new Tag("high risk").tagName);
+        assertEquals(new Tag("MR"), new Tag("Medium Risk"));
+        assertEquals(RiskLevel.LR, new Tag("lr").getRiskLevel());
+    }
+
+    @Test
+    public void of_sameRiskLevel_returnsSameInstance() {
+        Tag highRisk = Tag.of("HR");
+        assertSame(highRisk, Tag.of("high risk"));
+        assertSame(highRisk, Tag.of("High Risk"));
+        assertEquals(new Tag("HR"), highRisk);
+        assertEquals(RiskLevel.LR, Tag.of("lr").getRiskLevel());
+    }
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> Tag.of(null));
+    }
+
+    @Test
+    public void of_invalidTagName_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Tag.of("Extreme Risk"));
     }
 
 }
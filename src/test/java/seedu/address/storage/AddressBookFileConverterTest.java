@@ -0,0 +1,94 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+
+public class AddressBookFileConverterTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void convert_jsonToBinaryAndBack_lossless() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        original.nextSeniorId();
+        Path jsonPath = testFolder.resolve("addressbook.json");
+        JsonAddressBookStorage json = new JsonAddressBookStorage(jsonPath);
+        json.saveAddressBook(original);
+        BinaryAddressBookStorage binary =
+                new BinaryAddressBookStorage(BinaryAddressBookStorage.getBinaryFilePath(jsonPath));
+        JsonAddressBookStorage roundTripped = new JsonAddressBookStorage(testFolder.resolve("roundtrip.json"));
+
+        assertTrue(AddressBookFileConverter.convert(json, binary));
+        assertTrue(AddressBookFileConverter.convert(binary, roundTripped));
+
+        AddressBook readBack = new AddressBook(roundTripped.readAddressBook().get());
+        assertEquals(original, readBack);
+        assertEquals(original.getSeniorSeq(), readBack.getSeniorSeq());
+        assertEquals(original.getCaregiverSeq(), readBack.getCaregiverSeq());
+    }
+
+    @Test
+    public void convert_missingSource_nothingWritten() throws Exception {
+        BinaryAddressBookStorage binary = new BinaryAddressBookStorage(testFolder.resolve("addressbook.bin"));
+        assertFalse(AddressBookFileConverter.convert(
+                new JsonAddressBookStorage(testFolder.resolve("addressbook.json")), binary));
+        assertFalse(Files.exists(binary.getAddressBookFilePath()));
+    }
+
+    @Test
+    public void convertIfNewer_binaryNewerThanJournaledJson_replacesJsonData() throws Exception {
+        Path jsonPath = testFolder.resolve("addressbook.json");
+        JournalingAddressBookStorage json = new JournalingAddressBookStorage(jsonPath, false);
+        AddressBook original = getTypicalAddressBook();
+        json.saveAddressBook(original);
+        BinaryAddressBookStorage binary =
+                new BinaryAddressBookStorage(BinaryAddressBookStorage.getBinaryFilePath(jsonPath));
+        AddressBook changed = new AddressBook(original);
+        changed.addSenior(HOON);
+        binary.saveAddressBook(changed);
+        setLastModified(jsonPath, 1000);
+        setLastModified(JournalingAddressBookStorage.getJournalPath(jsonPath), 1000);
+        setLastModified(binary.getAddressBookFilePath(), 2000);
+
+        assertFalse(AddressBookFileConverter.convertIfNewer(json, binary));
+        assertTrue(AddressBookFileConverter.convertIfNewer(binary, json));
+        assertEquals(changed, new AddressBook(new JournalingAddressBookStorage(jsonPath, false)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void convertIfNewer_journalNewerThanBinary_convertsJournaledData() throws Exception {
+        Path jsonPath = testFolder.resolve("addressbook.json");
+        JournalingAddressBookStorage json = new JournalingAddressBookStorage(jsonPath, false);
+        AddressBook original = getTypicalAddressBook();
+        json.saveAddressBook(original);
+        original.addSenior(HOON);
+        json.saveAddressBook(original);
+        BinaryAddressBookStorage binary =
+                new BinaryAddressBookStorage(BinaryAddressBookStorage.getBinaryFilePath(jsonPath));
+        binary.saveAddressBook(getTypicalAddressBook());
+        setLastModified(jsonPath, 1000);
+        setLastModified(binary.getAddressBookFilePath(), 2000);
+        setLastModified(JournalingAddressBookStorage.getJournalPath(jsonPath), 3000);
+
+        assertTrue(AddressBookFileConverter.convertIfNewer(json, binary));
+        assertEquals(original, new AddressBook(binary.readAddressBook().get()));
+    }
+
+    private static void setLastModified(Path path, long seconds) throws Exception {
+        Files.setLastModifiedTime(path, FileTime.fromMillis(seconds * 1000));
+    }
+}
@@ -0,0 +1,210 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.CaregiverBuilder;
+import seedu.address.testutil.SeniorBuilder;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void getBinaryFilePath_jsonFile_replacesExtension() {
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "addressbook.json")));
+        assertEquals(Paths.get("data", "addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Paths.get("data", "addressbook")));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.bin");
+        assertFalse(new BinaryAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        original.addSenior(new SeniorBuilder(HOON).withNote("Speaks 中文 only").withPinned(true).build());
+        original.addCaregiver(new CaregiverBuilder().withName("Zed").withPhone("91111111").build());
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+        assertEquals(original, readBack);
+        assertEquals(original.getSeniorSeq(), readBack.getSeniorSeq());
+        assertEquals(original.getCaregiverSeq(), readBack.getCaregiverSeq());
+
+        // Overwrite with less data
+        original.removeCaregiver(ALICE);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_lazy_sameDataAfterFileReplaced() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+        BinaryAddressBookStorage lazyStorage = new BinaryAddressBookStorage(filePath, true);
+        ReadOnlyAddressBook lazyRead = lazyStorage.readAddressBook().get();
+
+        // Saving replaces the file, so persons read earlier still load their details from the old contents
+        lazyStorage.saveAddressBook(new AddressBook());
+        assertEquals(original, new AddressBook(lazyRead));
+        assertEquals(original.getSeniorSeq(), lazyRead.getSeniorSeq());
+        assertEquals(new AddressBook(), new AddressBook(lazyStorage.readAddressBook().get()));
+
+        // and can be saved again in full
+        lazyStorage.saveAddressBook(lazyRead);
+        assertEquals(original, new AddressBook(new BinaryAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_rightAfterRead_replacesFile() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+
+        // Nothing left over from reading the file may keep a save from replacing it
+        for (boolean isLazy : new boolean[] {false, true}) {
+            BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath, isLazy);
+            AddressBook readBack = new AddressBook(storage.readAddressBook().get());
+            readBack.removeCaregiver(ALICE);
+            storage.saveAddressBook(readBack);
+            assertEquals(readBack, new AddressBook(storage.readAddressBook().get()));
+            storage.saveAddressBook(original);
+        }
+    }
+
+    @Test
+    public void readAddressBook_repeatedText_storedOnceAndShared() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = new AddressBook();
+        original.addSenior(new SeniorBuilder().withName("Ann").withPhone("81111111").withCaregiverId(null).build());
+        original.addSenior(new SeniorBuilder().withName("Ben").withPhone("82222222").withCaregiverId(null).build());
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+
+        ReadOnlyAddressBook readBack = storage.readAddressBook().get();
+        assertSame(readBack.getSeniorList().get(0).getAddress().value,
+                readBack.getSeniorList().get(1).getAddress().value);
+        String content = new String(Files.readAllBytes(filePath), StandardCharsets.UTF_8);
+        String address = SeniorBuilder.DEFAULT_ADDRESS;
+        assertEquals(content.indexOf(address), content.lastIndexOf(address));
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JsonAddressBookWriter.write(getTypicalAddressBook(), filePath, false);
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage storage = new BinaryAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        bytes[7] = (byte) (BinaryAddressBookStorage.VERSION + 1);
+        Files.write(filePath, bytes);
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+        assertTrue(Files.exists(filePath));
+    }
+
+    @Test
+    public void readAddressBook_lazyInvalidAddress_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = new AddressBook();
+        original.addSenior(new SeniorBuilder().withAddress("Blk 1 Street").withCaregiverId(null).build());
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+        byte[] bytes = Files.readAllBytes(filePath);
+        int addressStart = new String(bytes, StandardCharsets.ISO_8859_1).indexOf("Blk 1 Street");
+        bytes[addressStart + 3] = '\n';
+        Files.write(filePath, bytes);
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath, true).readAddressBook());
+    }
+
+    @Test
+    public void read_invalidNameOrPhone_throwsIllegalValueExceptionWithConstraints() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = new AddressBook();
+        original.addSenior(new SeniorBuilder().withName("Ann Lim").withPhone("81234567").withCaregiverId(null).build());
+        new BinaryAddressBookStorage(filePath).saveAddressBook(original);
+        byte[] bytes = Files.readAllBytes(filePath);
+        String content = new String(bytes, StandardCharsets.ISO_8859_1);
+        int nameStart = content.indexOf("Ann Lim");
+        int phoneStart = content.indexOf("81234567");
+
+        for (boolean isLazy : new boolean[] {false, true}) {
+            byte[] invalidName = bytes.clone();
+            invalidName[nameStart] = '!';
+            Files.write(filePath, invalidName);
+            assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () ->
+                    BinaryAddressBookStorage.read(filePath, isLazy));
+
+            byte[] invalidPhone = bytes.clone();
+            invalidPhone[phoneStart] = 'x';
+            Files.write(filePath, invalidPhone);
+            assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, () ->
+                    BinaryAddressBookStorage.read(filePath, isLazy));
+        }
+    }
+
+    @Test
+    public void readAddressBook_stringOffsetsOutOfOrder_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        ByteBuffer bytes = ByteBuffer.wrap(Files.readAllBytes(filePath));
+        int stringsOffset = bytes.getInt(36);
+        bytes.putInt(stringsOffset + Integer.BYTES, bytes.getInt(stringsOffset + 2 * Integer.BYTES) + 1);
+        Files.write(filePath, bytes.array());
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath, true).readAddressBook());
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () ->
+                new BinaryAddressBookStorage(testFolder.resolve("a.bin")).saveAddressBook(null));
+    }
+}
@@ -0,0 +1,226 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Senior;
+import seedu.address.testutil.SeniorBuilder;
+
+public class JournalingAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalPath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.json");
+        journalPath = JournalingAddressBookStorage.getJournalPath(filePath);
+    }
+
+    @Test
+    public void saveAddressBook_changes_journaledWithoutRewritingSnapshot() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath, false);
+        storage.saveAddressBook(original);
+        byte[] snapshot = Files.readAllBytes(filePath);
+
+        // Edits scattered through both lists, an insertion and a removal
+        original.setSenior(DANIEL, new SeniorBuilder(DANIEL).withNote("Moved in with family").build());
+        original.setSenior(GEORGE, new SeniorBuilder(GEORGE).withPinned(true).build());
+        original.addSenior(HOON);
+        storage.saveAddressBook(original);
+        original.removeCaregiver(ALICE);
+        original.addCaregiver(IDA);
+        storage.saveAddressBook(original);
+
+        assertArrayEquals(snapshot, Files.readAllBytes(filePath));
+        assertTrue(Files.size(journalPath) > 0);
+        AddressBook readBack = new AddressBook(
+                new JournalingAddressBookStorage(filePath, false).readAddressBook().get());
+        assertEquals(original, readBack);
+        assertEquals(original.getSeniorSeq(), readBack.getSeniorSeq());
+        assertEquals(original.getCaregiverSeq(), readBack.getCaregiverSeq());
+    }
+
+    @Test
+    public void saveAddressBook_replacementWithSameFields_notJournaled() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath, false);
+        storage.saveAddressBook(original);
+        long journalSize = Files.size(journalPath);
+
+        original.setSenior(DANIEL, new SeniorBuilder(DANIEL).build());
+        storage.saveAddressBook(original);
+        assertEquals(journalSize, Files.size(journalPath));
+
+        original.setSenior(GEORGE, new SeniorBuilder(GEORGE).withPinned(!GEORGE.getPinned()).build());
+        storage.saveAddressBook(original);
+        assertTrue(Files.size(journalPath) > journalSize);
+    }
+
+    @Test
+    public void saveAddressBook_journalFull_compactsIntoSnapshot() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath, false, 1 << 20, 0);
+        storage.saveAddressBook(original);
+        original.addSenior(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(getTypicalAddressBook(), readSnapshotOnly());
+
+        // The journal now holds a record, so the next save folds everything into the snapshot
+        original.addCaregiver(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(original, readSnapshotOnly());
+        assertEquals(original, new AddressBook(new JournalingAddressBookStorage(filePath, false)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_tornBatch_ignoredAndCompactedOnNextSave() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        new JournalingAddressBookStorage(filePath, false).saveAddressBook(original);
+        Files.writeString(journalPath, "{\"op\":\"insert\",\"list\":\"seniors\",\"index\":0,\"person\":{\"name\"",
+                StandardOpenOption.APPEND);
+
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath, false);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        original.addSenior(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(original, readSnapshotOnly());
+        assertEquals(original, new AddressBook(new JournalingAddressBookStorage(filePath, false)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalAlreadyInSnapshot_notAppliedAgain() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath, false);
+        storage.saveAddressBook(original);
+        original.addSenior(HOON);
+        storage.saveAddressBook(original);
+        byte[] journal = Files.readAllBytes(journalPath);
+
+        // As if the app stopped after moving the new snapshot into place but before starting the new journal
+        storage.compactAddressBook();
+        Files.write(journalPath, journal);
+
+        assertEquals(original, new AddressBook(new JournalingAddressBookStorage(filePath, false)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_snapshotReplacedUnderJournal_throwsDataLoadingException() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath, false);
+        storage.saveAddressBook(original);
+        original.setSenior(DANIEL, new SeniorBuilder(DANIEL).withNote("Moved in with family").build());
+        storage.saveAddressBook(original);
+
+        // As if the snapshot were restored from an older backup, in which another senior is where Daniel was
+        AddressBook backup = getTypicalAddressBook();
+        backup.removeSeniors(DANIEL);
+        JsonAddressBookWriter.write(backup, filePath, false);
+
+        assertThrows(DataLoadingException.class, () ->
+                new JournalingAddressBookStorage(filePath, false).readAddressBook());
+    }
+
+    @Test
+    public void foldJournal_journaledChanges_readableAsPlainJsonFile() throws Exception {
+        assertFalse(JournalingAddressBookStorage.foldJournal(filePath, false));
+
+        AddressBook original = getTypicalAddressBook();
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath, false);
+        storage.saveAddressBook(original);
+        original.addSenior(HOON);
+        storage.saveAddressBook(original);
+
+        assertTrue(JournalingAddressBookStorage.foldJournal(filePath, false));
+        assertFalse(Files.exists(journalPath));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_fileWithoutJournal_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JsonAddressBookWriter.write(original, filePath, false);
+
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath, false);
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+        assertFalse(Files.exists(journalPath));
+
+        original.addSenior(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(new JournalingAddressBookStorage(filePath, false)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void compactAddressBook_journaledChanges_foldedIntoSnapshot() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(filePath, true);
+        storage.saveAddressBook(original);
+        Senior editedDaniel = new SeniorBuilder(DANIEL).withRiskTag("LR").build();
+        original.setSenior(DANIEL, editedDaniel);
+        storage.saveAddressBook(original);
+
+        storage.compactAddressBook();
+        assertEquals(original, readSnapshotOnly());
+        assertEquals(original, new AddressBook(new JournalingAddressBookStorage(filePath, true)
+                .readAddressBook().get()));
+    }
+
+    @Test
+    public void saveAddressBook_otherPath_plainFileWithoutJournal() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Path otherPath = testFolder.resolve("other.json");
+        new JournalingAddressBookStorage(filePath, false).saveAddressBook(original, otherPath);
+
+        assertEquals(original, JsonAddressBookReader.read(otherPath));
+        assertFalse(Files.exists(JournalingAddressBookStorage.getJournalPath(otherPath)));
+        assertFalse(Files.exists(filePath));
+    }
+
+    @Test
+    public void compactAddressBook_compressedSnapshot_compressedAndReadableBack() throws Exception {
+        Path compressedPath = JsonAddressBookStorage.getCompressedFilePath(filePath);
+        AddressBook original = getTypicalAddressBook();
+        JournalingAddressBookStorage storage = new JournalingAddressBookStorage(compressedPath, false);
+        storage.saveAddressBook(original);
+        original.setSenior(DANIEL, new SeniorBuilder(DANIEL).withRiskTag("LR").build());
+        storage.saveAddressBook(original);
+
+        storage.compactAddressBook();
+        assertEquals((byte) 0x1F, Files.readAllBytes(compressedPath)[0]);
+        assertEquals(original, JsonAddressBookReader.read(compressedPath));
+        assertEquals(original, new AddressBook(new JournalingAddressBookStorage(compressedPath, false)
+                .readAddressBook().get()));
+    }
+
+    private AddressBook readSnapshotOnly() throws Exception {
+        return JsonAddressBookReader.read(filePath);
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.testutil.TypicalPersons;
+
+public class JsonAddressBookReaderTest {
+
+    private static final Path TEST_DATA_FOLDER = Paths.get("src", "test", "data", "JsonAddressBookReaderTest");
+    private static final Path TYPICAL_PERSONS_FILE = TEST_DATA_FOLDER.resolve("typicalPersonsAddressBook.json");
+    private static final Path INVALID_PERSON_FILE = TEST_DATA_FOLDER.resolve("invalidPersonAddressBook.json");
+    private static final Path DUPLICATE_PERSON_FILE = TEST_DATA_FOLDER.resolve("duplicatePersonAddressBook.json");
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_typicalPersonsFile_success() throws Exception {
+        AddressBook addressBookFromFile = JsonAddressBookReader.read(TYPICAL_PERSONS_FILE);
+        AddressBook typicalPersonsAddressBook = TypicalPersons.getTypicalAddressBook();
+        assertEquals(typicalPersonsAddressBook, addressBookFromFile);
+    }
+
+    @Test
+    public void read_invalidPersonFile_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, () -> JsonAddressBookReader.read(INVALID_PERSON_FILE));
+    }
+
+    @Test
+    public void read_duplicatePersons_throwsIllegalValueException() {
+        assertThrows(IllegalValueException.class, JsonAddressBookReader.MESSAGE_DUPLICATE_PERSON, () ->
+                JsonAddressBookReader.read(DUPLICATE_PERSON_FILE));
+    }
+
+    @Test
+    public void read_seniorsBeforeCaregivers_assignmentsResolved() throws Exception {
+        Path file = testFolder.resolve("addressBook.json");
+        Files.writeString(file, "{\"seniors\": [{\"name\": \"Daniel Meier\", \"phone\": \"87652533\","
+                + " \"address\": \"10th Street\", \"risk\": \"HR\", \"seniorId\": 1, \"caregiverId\": 4,"
+                + " \"pinned\": false, \"extra\": {\"ignored\": [1, 2]}}],"
+                + " \"caregivers\": [{\"name\": \"Alice Pauline\", \"phone\": \"94351253\","
+                + " \"address\": \"123, Jurong West Ave 6\", \"caregiverId\": 4, \"pinned\": false}],"
+                + " \"seniorSeq\": 7, \"caregiverSeq\": null}");
+
+        AddressBook addressBook = JsonAddressBookReader.read(file);
+        assertEquals(4, addressBook.getSeniorList().get(0).getCaregiverId());
+        assertEquals(7, addressBook.getSeniorSeq());
+        assertEquals(4, addressBook.getCaregiverSeq());
+    }
+
+    @Test
+    public void read_unknownCaregiver_throwsIllegalValueException() throws Exception {
+        Path file = testFolder.resolve("addressBook.json");
+        Files.writeString(file, "{\"seniors\": [{\"name\": \"Daniel Meier\", \"phone\": \"87652533\","
+                + " \"address\": \"10th Street\", \"riskTag\": \"HR\", \"seniorId\": 1, \"caregiverId\": 4,"
+                + " \"pinned\": false}]}");
+        String expectedMessage = String.format(JsonAddressBookReader.MESSAGE_UNKNOWN_CAREGIVER, 4);
+        assertThrows(IllegalValueException.class, expectedMessage, () -> JsonAddressBookReader.read(file));
+    }
+
+    @Test
+    public void read_wrongValueType_throwsIoException() throws Exception {
+        Path file = testFolder.resolve("addressBook.json");
+        Files.writeString(file, "{\"caregivers\": [{\"name\": [\"Alice\"]}]}");
+        assertThrows(IOException.class, () -> JsonAddressBookReader.read(file));
+    }
+
+    @Test
+    public void read_manyInvalidRecords_firstInFileReported() throws Exception {
+        Path file = testFolder.resolve("addressBook.json");
+        StringBuilder json = new StringBuilder("{\"caregivers\": [");
+        for (int i = 0; i < 3 * RecordConverter.CHUNK_SIZE; i++) {
+            String name = i == 2 * RecordConverter.CHUNK_SIZE + 1 ? "Caregiver ?" : "Caregiver " + i;
+            String phone = i == RecordConverter.CHUNK_SIZE + 1 ? "phone" : String.valueOf(90000000 + i);
+            json.append(i == 0 ? "" : ", ").append("{\"name\": \"").append(name).append("\", \"phone\": \"")
+                    .append(phone).append("\", \"address\": \"Blk 1\", \"caregiverId\": ").append(i + 1)
+                    .append(", \"pinned\": false}");
+        }
+        Files.writeString(file, json.append("]}"));
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, () -> JsonAddressBookReader.read(file));
+    }
+
+    @Test
+    public void read_duplicateBeforeInvalidRecord_invalidRecordReported() throws Exception {
+        Path file = testFolder.resolve("addressBook.json");
+        String senior = "{\"name\": \"Daniel Meier\", \"phone\": \"%s\", \"address\": \"10th Street\","
+                + " \"riskTag\": \"HR\", \"seniorId\": %d, \"pinned\": false}";
+        Files.writeString(file, "{\"seniors\": [" + String.format(senior, "87652533", 1) + ", "
+                + String.format(senior, "87652533", 2) + ", " + String.format(senior, "phone", 3) + "]}");
+
+        // Persons are checked against each other only once every record is valid
+        assertThrows(IllegalValueException.class, Phone.MESSAGE_CONSTRAINTS, () -> JsonAddressBookReader.read(file));
+    }
+
+    @Test
+    public void read_invalidRecordBeforeSyntaxError_throwsIllegalValueException() throws Exception {
+        Path file = testFolder.resolve("addressBook.json");
+        Files.writeString(file, "{\"caregivers\": [{\"name\": \"Alice ?\", \"phone\": \"94351253\","
+                + " \"address\": \"Blk 1\", \"caregiverId\": 1, \"pinned\": false}, {\"name\": [\"Alice\"]}]}");
+        assertThrows(IllegalValueException.class, Name.MESSAGE_CONSTRAINTS, () -> JsonAddressBookReader.read(file));
+    }
+
+}
@@ -2,6 +2,7 @@ package seedu.address.storage;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
 import static seedu.address.testutil.TypicalPersons.HOON;
@@ -9,6 +10,7 @@ import static seedu.address.testutil.TypicalPersons.IDA;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.io.IOException;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.nio.file.Paths;
 
@@ -86,6 +88,46 @@ public class JsonAddressBookStorageTest {
 
     }
 
+    @Test
+    public void saveAddressBook_compact_smallerAndReadableBack() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Path indentedPath = testFolder.resolve("IndentedAddressBook.json");
+        Path compactPath = testFolder.resolve("CompactAddressBook.json");
+        new JsonAddressBookStorage(indentedPath).saveAddressBook(original);
+        JsonAddressBookStorage compactStorage = new JsonAddressBookStorage(compactPath, true);
+        compactStorage.saveAddressBook(original);
+
+        String compactContent = Files.readString(compactPath);
+        assertFalse(compactContent.contains("\n"));
+        assertTrue(compactContent.length() < Files.readString(indentedPath).length());
+
+        AddressBook readBack = new AddressBook(compactStorage.readAddressBook().get());
+        assertEquals(original, readBack);
+        assertEquals(original.getSeniorSeq(), readBack.getSeniorSeq());
+        assertEquals(original.getCaregiverSeq(), readBack.getCaregiverSeq());
+    }
+
+    @Test
+    public void saveAddressBook_compressedFile_smallerAndReadableBack() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Path plainPath = testFolder.resolve("addressbook.json");
+        Path compressedPath = JsonAddressBookStorage.getCompressedFilePath(plainPath);
+        assertEquals(testFolder.resolve("addressbook.json.gz"), compressedPath);
+        new JsonAddressBookStorage(plainPath).saveAddressBook(original);
+        JsonAddressBookStorage compressedStorage = new JsonAddressBookStorage(compressedPath);
+        compressedStorage.saveAddressBook(original);
+
+        byte[] compressedContent = Files.readAllBytes(compressedPath);
+        assertEquals((byte) 0x1F, compressedContent[0]);
+        assertEquals((byte) 0x8B, compressedContent[1]);
+        assertTrue(compressedContent.length < Files.size(plainPath));
+        assertEquals(original, new AddressBook(compressedStorage.readAddressBook().get()));
+
+        // Compressed files are recognised by their contents rather than their name
+        Path renamedPath = Files.move(compressedPath, testFolder.resolve("renamed.json"));
+        assertEquals(original, new AddressBook(new JsonAddressBookStorage(renamedPath).readAddressBook().get()));
+    }
+
     @Test
     public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> saveAddressBook(null, "SomeFile.json"));
@@ -0,0 +1,78 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+
+public class RecordConverterTest {
+
+    private static final int RECORD_COUNT = 10 * RecordConverter.CHUNK_SIZE + 3;
+
+    @Test
+    public void convertAll_manyChunks_keepsOrder() throws Exception {
+        List<Integer> records = new ArrayList<>();
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            records.add(i);
+        }
+        List<String> converted = RecordConverter.convertAll(records, String::valueOf);
+        assertEquals(RECORD_COUNT, converted.size());
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            assertEquals(String.valueOf(i), converted.get(i));
+        }
+    }
+
+    @Test
+    public void convertAll_invalidRecordsInSeveralChunks_throwsFirst() {
+        List<Integer> records = new ArrayList<>();
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            records.add(i);
+        }
+        int firstInvalid = 4 * RecordConverter.CHUNK_SIZE + 7;
+        assertThrows(IllegalValueException.class, "Invalid record " + firstInvalid, () ->
+                RecordConverter.convertAll(records, record -> {
+                    if (record >= firstInvalid && record % 3 == firstInvalid % 3) {
+                        throw new IllegalValueException("Invalid record " + record);
+                    }
+                    return record;
+                }));
+    }
+
+    @Test
+    public void convertAll_noRecords_emptyResult() throws Exception {
+        assertEquals(List.of(), RecordConverter.convertAll(List.<Integer>of(), String::valueOf));
+    }
+
+    @Test
+    public void add_manyChunks_keepsOrder() throws Exception {
+        RecordConverter<Integer, String> converter = new RecordConverter<>(String::valueOf);
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            converter.add(i);
+        }
+        List<String> converted = converter.finish();
+        assertEquals(RECORD_COUNT, converted.size());
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            assertEquals(String.valueOf(i), converted.get(i));
+        }
+    }
+
+    @Test
+    public void add_invalidRecordsInSeveralChunks_throwsFirst() {
+        int firstInvalid = 4 * RecordConverter.CHUNK_SIZE + 7;
+        RecordConverter<Integer, Integer> converter = new RecordConverter<>(record -> {
+            if (record >= firstInvalid && record % 3 == firstInvalid % 3) {
+                throw new IllegalValueException("Invalid record " + record);
+            }
+            return record;
+        });
+        for (int i = 0; i < RECORD_COUNT; i++) {
+            converter.add(i);
+        }
+        assertThrows(IllegalValueException.class, "Invalid record " + firstInvalid, converter::finish);
+    }
+}
@@ -0,0 +1,189 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Senior;
+import seedu.address.testutil.SeniorBuilder;
+
+public class ShardedAddressBookStorageTest {
+
+    private static final int SHARD_SIZE = 2;
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private ShardedAddressBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.shards").resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME);
+        storage = new ShardedAddressBookStorage(filePath, false, SHARD_SIZE);
+    }
+
+    @Test
+    public void getManifestFilePath_jsonFile_usesShardsDirectory() {
+        assertEquals(Paths.get("data", "addressbook.shards", "manifest.json"),
+                ShardedAddressBookStorage.getManifestFilePath(Paths.get("data", "addressbook.json")));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_shardChanges_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertEquals(original, readBack());
+
+        // Scattered edits, insertions and removals in both lists
+        original.setSenior(DANIEL, new SeniorBuilder(DANIEL).withNote("Moved in with family").build());
+        original.removeSeniors(FIONA);
+        original.addSenior(HOON);
+        original.removeCaregiver(ALICE);
+        original.addCaregiver(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(original, readBack());
+
+        // Assignments survive the round trip
+        Senior assignedHoon = HOON.withCaregiverId(BENSON.getId());
+        original.setSenior(HOON, assignedHoon);
+        storage.saveAddressBook(original);
+        AddressBook readBack = readBack();
+        assertEquals(original, readBack);
+        assertEquals(original.getSeniorSeq(), readBack.getSeniorSeq());
+        assertEquals(original.getCaregiverSeq(), readBack.getCaregiverSeq());
+    }
+
+    @Test
+    public void saveAddressBook_editOneSenior_rewritesOneShard() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        Set<String> shardFiles = listShardFiles();
+
+        original.setSenior(DANIEL, new SeniorBuilder(DANIEL).withNote("Moved in with family").build());
+        storage.saveAddressBook(original);
+
+        Set<String> updatedShardFiles = listShardFiles();
+        Set<String> removed = new HashSet<>(shardFiles);
+        removed.removeAll(updatedShardFiles);
+        Set<String> added = new HashSet<>(updatedShardFiles);
+        added.removeAll(shardFiles);
+        assertEquals(1, removed.size());
+        assertEquals(1, added.size());
+        assertTrue(added.iterator().next().startsWith("seniors-"));
+        assertEquals(original, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_insertionsAndRemovals_keepOrder() throws Exception {
+        AddressBook original = new AddressBook();
+        storage.saveAddressBook(original);
+        for (int i = 0; i < 20; i++) {
+            Senior senior = new SeniorBuilder().withName("Senior " + (char) ('A' + i))
+                    .withPhone(String.valueOf(81000000 + i)).withCaregiverId(null).build();
+            AddressBook next = new AddressBook();
+            next.addSenior(senior);
+            original.getSeniorList().forEach(next::addSenior);
+            original = next;
+            storage.saveAddressBook(original);
+        }
+        assertEquals(original, readBack());
+
+        for (int i = 0; i < 15; i++) {
+            original.removeSeniors(original.getSeniorList().get((i * 7) % original.getSeniorList().size()));
+            storage.saveAddressBook(original);
+        }
+        assertEquals(original, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_afterReopening_appliesChangesToStoredShards() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+
+        ShardedAddressBookStorage reopened = new ShardedAddressBookStorage(filePath, false, SHARD_SIZE);
+        AddressBook loaded = new AddressBook(reopened.readAddressBook().get());
+        loaded.addSenior(HOON);
+        loaded.removeCaregiver(ALICE);
+        reopened.saveAddressBook(loaded);
+
+        assertEquals(loaded, readBack());
+    }
+
+    @Test
+    public void readAddressBook_tamperedShard_throwsDataLoadingException() throws Exception {
+        storage.saveAddressBook(getTypicalAddressBook());
+        Path shardFile = filePath.resolveSibling(listShardFiles().iterator().next());
+        Files.writeString(shardFile, Files.readString(shardFile).replace("\"pinned\"", " \"pinned\""));
+
+        assertThrows(DataLoadingException.class, () -> readBack());
+    }
+
+    @Test
+    public void saveAddressBook_otherPath_writesSeparateShards() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Path otherPath = testFolder.resolve("other.shards").resolve(ShardedAddressBookStorage.MANIFEST_FILE_NAME);
+        storage.saveAddressBook(original, otherPath);
+
+        assertEquals(original, new AddressBook(storage.readAddressBook(otherPath).get()));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void convert_jsonToShardedAndBack_lossless() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        original.nextCaregiverId();
+        JsonAddressBookStorage json = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        json.saveAddressBook(original);
+        JsonAddressBookStorage exported = new JsonAddressBookStorage(testFolder.resolve("exported.json"));
+
+        assertTrue(AddressBookFileConverter.convert(json, storage));
+        assertTrue(AddressBookFileConverter.convert(storage, exported));
+
+        AddressBook readBack = new AddressBook(exported.readAddressBook().get());
+        assertEquals(original, readBack);
+        assertEquals(original.getCaregiverSeq(), readBack.getCaregiverSeq());
+    }
+
+    private Set<String> listShardFiles() throws IOException {
+        try (Stream<Path> files = Files.list(filePath.getParent())) {
+            List<String> fileNames = files.map(file -> file.getFileName().toString())
+                    .filter(fileName -> !fileName.equals(ShardedAddressBookStorage.MANIFEST_FILE_NAME))
+                    .collect(Collectors.toList());
+            return new HashSet<>(fileNames);
+        }
+    }
+
+    private AddressBook readBack() throws Exception {
+        return new AddressBook(new ShardedAddressBookStorage(filePath, false, SHARD_SIZE).readAddressBook().get());
+    }
+}
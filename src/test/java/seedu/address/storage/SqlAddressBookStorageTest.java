@@ -0,0 +1,194 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.ResultSet;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Senior;
+import seedu.address.testutil.SeniorBuilder;
+
+public class SqlAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private SqlAddressBookStorage storage;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("addressbook.mv.db");
+        storage = new SqlAddressBookStorage(filePath);
+    }
+
+    @AfterEach
+    public void tearDown() throws Exception {
+        storage.compactAddressBook();
+    }
+
+    @Test
+    public void constructor_notDatabaseFile_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SqlAddressBookStorage(Paths.get("addressbook.json")));
+    }
+
+    @Test
+    public void getDatabaseFilePath_jsonFile_replacesExtension() {
+        assertEquals(Paths.get("data", "addressbook.mv.db"),
+                SqlAddressBookStorage.getDatabaseFilePath(Paths.get("data", "addressbook.json")));
+    }
+
+    @Test
+    public void readAddressBook_missingFile_emptyResult() throws Exception {
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_rowChanges_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        assertEquals(original, readBack());
+
+        // Scattered edits, insertions and removals in both tables
+        original.setSenior(DANIEL, new SeniorBuilder(DANIEL).withNote("Moved in with family").build());
+        original.removeSeniors(FIONA);
+        original.addSenior(HOON);
+        original.removeCaregiver(ALICE);
+        original.addCaregiver(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(original, readBack());
+
+        // Assignments survive the round trip
+        Senior assignedHoon = HOON.withCaregiverId(BENSON.getId());
+        original.setSenior(HOON, assignedHoon);
+        storage.saveAddressBook(original);
+        AddressBook readBack = readBack();
+        assertEquals(original, readBack);
+        assertEquals(BENSON.getId(), readBack.getSeniorList().get(readBack.getSeniorList().size() - 1)
+                .getCaregiverId());
+        assertEquals(original.getSeniorSeq(), readBack.getSeniorSeq());
+        assertEquals(original.getCaregiverSeq(), readBack.getCaregiverSeq());
+    }
+
+    @Test
+    public void saveAddressBook_editAndAdd_touchesOnlyChangedRows() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        List<Long> rowKeys = readRowKeys();
+
+        original.setSenior(DANIEL, new SeniorBuilder(DANIEL).withNote("Moved in with family").build());
+        original.addSenior(HOON);
+        storage.saveAddressBook(original);
+
+        // The edited senior keeps its row, and the new senior gets a row of its own at the end
+        List<Long> updatedRowKeys = readRowKeys();
+        assertEquals(rowKeys, updatedRowKeys.subList(0, rowKeys.size()));
+        assertEquals(rowKeys.size() + 1, updatedRowKeys.size());
+        assertEquals(original, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_insertionsAtFront_keepOrder() throws Exception {
+        AddressBook original = new AddressBook();
+        storage.saveAddressBook(original);
+        for (int i = 0; i < 20; i++) {
+            Senior senior = new SeniorBuilder().withName("Senior " + (char) ('A' + i))
+                    .withPhone(String.valueOf(81000000 + i)).withCaregiverId(null).build();
+            AddressBook next = new AddressBook();
+            next.addSenior(senior);
+            original.getSeniorList().forEach(next::addSenior);
+            original = next;
+            storage.saveAddressBook(original);
+        }
+        assertEquals(original, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_afterReopening_appliesChangesToStoredRows() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        storage.saveAddressBook(original);
+        storage.compactAddressBook();
+
+        SqlAddressBookStorage reopened = new SqlAddressBookStorage(filePath);
+        AddressBook loaded = new AddressBook(reopened.readAddressBook().get());
+        loaded.addSenior(HOON);
+        loaded.removeCaregiver(ALICE);
+        reopened.saveAddressBook(loaded);
+        reopened.compactAddressBook();
+
+        assertEquals(loaded, readBack());
+    }
+
+    @Test
+    public void saveAddressBook_otherPath_writesSeparateDatabase() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        Path otherPath = testFolder.resolve("other.mv.db");
+        storage.saveAddressBook(original, otherPath);
+
+        assertTrue(storage.readAddressBook(otherPath).isPresent());
+        assertEquals(original, new AddressBook(storage.readAddressBook(otherPath).get()));
+        assertFalse(storage.readAddressBook().isPresent());
+    }
+
+    @Test
+    public void convert_jsonToSqlAndBack_lossless() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        original.nextCaregiverId();
+        JsonAddressBookStorage json = new JsonAddressBookStorage(testFolder.resolve("addressbook.json"));
+        json.saveAddressBook(original);
+        JsonAddressBookStorage exported = new JsonAddressBookStorage(testFolder.resolve("exported.json"));
+
+        assertTrue(AddressBookFileConverter.convert(json, storage));
+        assertTrue(AddressBookFileConverter.convert(storage, exported));
+
+        AddressBook readBack = new AddressBook(exported.readAddressBook().get());
+        assertEquals(original, readBack);
+        assertEquals(original.getCaregiverSeq(), readBack.getCaregiverSeq());
+    }
+
+    private List<Long> readRowKeys() throws Exception {
+        storage.compactAddressBook();
+        String path = filePath.toAbsolutePath().toString();
+        List<Long> rowKeys = new ArrayList<>();
+        try (Connection connection = DriverManager.getConnection("jdbc:h2:file:"
+                + path.substring(0, path.length() - SqlAddressBookStorage.DATABASE_FILE_SUFFIX.length()));
+                ResultSet result = connection.createStatement().executeQuery(
+                        "SELECT row_key FROM seniors ORDER BY ordinal")) {
+            while (result.next()) {
+                rowKeys.add(result.getLong(1));
+            }
+        }
+        return rowKeys;
+    }
+
+    private AddressBook readBack() throws Exception {
+        SqlAddressBookStorage reader = new SqlAddressBookStorage(testFolder.resolve("addressbook.mv.db"));
+        storage.compactAddressBook();
+        try {
+            return new AddressBook(reader.readAddressBook().get());
+        } finally {
+            reader.compactAddressBook();
+        }
+    }
+}
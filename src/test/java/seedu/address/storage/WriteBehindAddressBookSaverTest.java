@@ -0,0 +1,98 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+
+public class WriteBehindAddressBookSaverTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private final List<ReadOnlyAddressBook> written = new CopyOnWriteArrayList<>();
+    private final List<IOException> failures = new CopyOnWriteArrayList<>();
+
+    @Test
+    public void save_requestsDuringWrite_coalescedIntoLatestSnapshot() throws Exception {
+        CountDownLatch firstWriteStarted = new CountDownLatch(1);
+        CountDownLatch firstWriteReleased = new CountDownLatch(1);
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("addressBook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                written.add(addressBook);
+                if (written.size() == 1) {
+                    firstWriteStarted.countDown();
+                    awaitUninterruptibly(firstWriteReleased);
+                }
+            }
+        };
+        WriteBehindAddressBookSaver saver = new WriteBehindAddressBookSaver(storage, failures::add);
+
+        AddressBook addressBook = new AddressBook();
+        addressBook.addCaregiver(ALICE);
+        saver.save(addressBook);
+        firstWriteStarted.await();
+
+        addressBook.addCaregiver(BENSON);
+        saver.save(addressBook);
+        addressBook.addSenior(DANIEL);
+        saver.save(addressBook);
+        firstWriteReleased.countDown();
+        saver.flush();
+
+        assertEquals(2, written.size());
+        assertEquals(List.of(ALICE), written.get(0).getCaregiverList());
+        assertEquals(addressBook, new AddressBook(written.get(1)));
+        assertEquals(List.of(), failures);
+    }
+
+    @Test
+    public void save_storageThrows_failureReported() {
+        IOException exception = new IOException("disk full");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("addressBook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw exception;
+            }
+        };
+        WriteBehindAddressBookSaver saver = new WriteBehindAddressBookSaver(storage, failures::add);
+
+        saver.save(new AddressBook());
+        saver.flush();
+        assertEquals(List.of(exception), failures);
+    }
+
+    @Test
+    public void flush_afterSave_dataReadableFromFile() throws Exception {
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("addressBook.json"));
+        WriteBehindAddressBookSaver saver = new WriteBehindAddressBookSaver(storage, failures::add);
+        AddressBook addressBook = new AddressBook();
+        addressBook.addCaregiver(ALICE);
+        addressBook.addSenior(DANIEL);
+
+        saver.save(addressBook);
+        saver.flush();
+        assertEquals(addressBook, storage.readAddressBook().get());
+    }
+
+    private static void awaitUninterruptibly(CountDownLatch latch) {
+        try {
+            latch.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
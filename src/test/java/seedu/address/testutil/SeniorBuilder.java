@@ -33,7 +33,7 @@ public class SeniorBuilder {
     private Address address;
     private Note note;
     private Tag riskTag;
-    private Caregiver caregiver;
+    private Integer caregiverId;
     private Integer seniorId;
     private Boolean isPinned;
 
@@ -47,7 +47,7 @@ public class SeniorBuilder {
         //riskTags = new HashSet<>(); // seniors can have risk tags
         riskTag = new Tag(DEFAULT_TAG);
         note = new Note(DEFAULT_NOTE);
-        caregiver = DEFAULT_CAREGIVER;
+        caregiverId = DEFAULT_CAREGIVER.getId();
         seniorId = DEFAULT_SENIOR_ID;
         isPinned = DEFAULT_PINNED;
     }
@@ -62,7 +62,7 @@ public class SeniorBuilder {
         //riskTags = new HashSet<>(seniorToCopy.getRiskTags());
         riskTag = seniorToCopy.getRiskTag();
         note = seniorToCopy.getNote();
-        caregiver = seniorToCopy.getCaregiver();
+        caregiverId = seniorToCopy.getCaregiverId();
         seniorId = seniorToCopy.getId();
         isPinned = seniorToCopy.getPinned();
     }
@@ -117,15 +117,30 @@ public class SeniorBuilder {
     }
 
     /**
-     * Parses the {@code caregiver} of the {@code Senior} that we are building.
+     * Assigns the {@code caregiver} to the {@code Senior} that we are building.
      */
     public SeniorBuilder withCaregiver(Caregiver caregiver) {
-        this.caregiver = caregiver;
+        this.caregiverId = caregiver == null ? null : caregiver.getId();
         return this;
     }
 
+    /**
+     * Sets the {@code caregiverId} of the {@code Senior} that we are building.
+     */
+    public SeniorBuilder withCaregiverId(Integer caregiverId) {
+        this.caregiverId = caregiverId;
+        return this;
+    }
+
+    /**
+     * Sets the {@code seniorId} of the {@code Senior} that we are building.
+     */
+    public SeniorBuilder withSeniorId(Integer seniorId) {
+        this.seniorId = seniorId;
+        return this;
+    }
 
     public Senior build() {
-        return new Senior(name, phone, address, riskTag, note, caregiver, seniorId, isPinned);
+        return new Senior(name, phone, address, riskTag, note, caregiverId, seniorId, isPinned);
     }
 }